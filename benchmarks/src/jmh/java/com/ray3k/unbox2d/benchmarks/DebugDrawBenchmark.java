@@ -0,0 +1,78 @@
+package com.ray3k.unbox2d.benchmarks;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.*;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.joints.DistanceJointDef;
+import dev.lyze.gdxUnBox2d.Box2DDebugShapeDrawer;
+import org.openjdk.jmh.annotations.*;
+import space.earlygrey.shapedrawer.ShapeDrawer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders a world full of bodies, joints and contacts with every debug option on. The gc profiler reports
+ * gc.alloc.rate.norm per render, which should stay at zero bytes. DebugDrawAllocationTest of the core module enforces
+ * that.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DebugDrawBenchmark {
+    @Param({"5000"})
+    public int bodyCount;
+
+    private World world;
+    private NullBatch batch;
+    private Box2DDebugShapeDrawer debugDrawer;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Headless.init();
+
+        world = new World(new Vector2(0, 0), true);
+        CircleShape circle = new CircleShape();
+        circle.setRadius(.5f);
+        PolygonShape box = new PolygonShape();
+        box.setAsBox(.5f, .5f);
+
+        int columns = (int) Math.ceil(Math.sqrt(bodyCount));
+        Body previous = null;
+        for (int i = 0; i < bodyCount; i++) {
+            BodyDef bodyDef = new BodyDef();
+            bodyDef.type = i % 10 == 0 ? BodyType.StaticBody : BodyType.DynamicBody;
+            // Slightly overlapping neighbours keep contacts alive
+            bodyDef.position.set((i % columns) * .9f, (i / columns) * .9f);
+            bodyDef.linearVelocity.set(1, 0);
+            Body body = world.createBody(bodyDef);
+            body.createFixture(i % 2 == 0 ? circle : box, 1);
+
+            if (previous != null && i % 50 == 0) {
+                DistanceJointDef jointDef = new DistanceJointDef();
+                jointDef.initialize(previous, body, previous.getPosition(), body.getPosition());
+                world.createJoint(jointDef);
+            }
+            previous = body;
+        }
+        circle.dispose();
+        box.dispose();
+        world.step(1 / 60f, 6, 2);
+
+        batch = new NullBatch();
+        debugDrawer = new Box2DDebugShapeDrawer(new ShapeDrawer(batch, new TextureRegion()), true, true, true, true, true, true);
+    }
+
+    @Benchmark
+    public long render() {
+        batch.begin();
+        debugDrawer.render(world);
+        batch.end();
+        return batch.vertexCount;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        world.dispose();
+    }
+}
@@ -0,0 +1,71 @@
+package com.ray3k.unbox2d.benchmarks;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+import com.ray3k.unbox2d.RegionProvider;
+import dev.lyze.gdxUnBox2d.Box2dPhysicsWorld;
+import dev.lyze.gdxUnBox2d.UnBox;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/** Sets up the headless backend shared by all benchmarks. Nothing in here needs a GL context. */
+final class Headless {
+    /** The default fixed time step of UnBox. Feeding it as delta runs exactly one fixed step per preRender. */
+    static final float TIME_STEP = 1 / 60f;
+
+    /** Regions without a texture. Sprites built from them can be positioned but not drawn. */
+    static final RegionProvider REGIONS = name -> new TextureRegion();
+
+    private static HeadlessApplication application;
+    private static PrintStream console;
+
+    private Headless() {
+    }
+
+    static synchronized void init() {
+        if (application != null) return;
+
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        // Never call render, the benchmarks drive UnBox themselves
+        configuration.updatesPerSecond = -1;
+        application = new HeadlessApplication(new ApplicationAdapter() {
+        }, configuration);
+    }
+
+    static UnBox<Box2dPhysicsWorld> createUnBox() {
+        return new UnBox<>(new Box2dPhysicsWorld(new World(new Vector2(0, 0), true)));
+    }
+
+    static void step(UnBox<Box2dPhysicsWorld> unBox) {
+        unBox.preRender(TIME_STEP);
+        unBox.postRender();
+    }
+
+    /** The sample behaviours print to the console every frame, which would dominate the measurement. */
+    static synchronized void muteConsole() {
+        if (console != null) return;
+
+        console = System.out;
+        System.setOut(new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        }));
+    }
+
+    static synchronized void restoreConsole() {
+        if (console == null) return;
+
+        System.setOut(console);
+        console = null;
+    }
+}
@@ -0,0 +1,209 @@
+package com.ray3k.unbox2d.benchmarks;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.math.Matrix4;
+
+/**
+ * A {@link Batch} that accepts and discards everything, so draw code can be measured without a GL context. It counts
+ * the vertices it is handed to keep the JIT from removing the calls.
+ */
+class NullBatch implements Batch {
+    private final Color color = new Color(Color.WHITE);
+    private final Matrix4 projectionMatrix = new Matrix4();
+    private final Matrix4 transformMatrix = new Matrix4();
+    private boolean drawing;
+    private boolean blending = true;
+    long vertexCount;
+
+    @Override
+    public void begin() {
+        drawing = true;
+    }
+
+    @Override
+    public void end() {
+        drawing = false;
+    }
+
+    @Override
+    public void setColor(Color tint) {
+        color.set(tint);
+    }
+
+    @Override
+    public void setColor(float r, float g, float b, float a) {
+        color.set(r, g, b, a);
+    }
+
+    @Override
+    public Color getColor() {
+        return color;
+    }
+
+    @Override
+    public void setPackedColor(float packedColor) {
+        Color.abgr8888ToColor(color, packedColor);
+    }
+
+    @Override
+    public float getPackedColor() {
+        return color.toFloatBits();
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, float originX, float originY, float width, float height,
+                     float scaleX, float scaleY, float rotation, int srcX, int srcY, int srcWidth, int srcHeight,
+                     boolean flipX, boolean flipY) {
+        vertexCount += 4;
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, float width, float height, int srcX, int srcY, int srcWidth,
+                     int srcHeight, boolean flipX, boolean flipY) {
+        vertexCount += 4;
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, int srcX, int srcY, int srcWidth, int srcHeight) {
+        vertexCount += 4;
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, float width, float height, float u, float v, float u2, float v2) {
+        vertexCount += 4;
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y) {
+        vertexCount += 4;
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, float width, float height) {
+        vertexCount += 4;
+    }
+
+    @Override
+    public void draw(Texture texture, float[] spriteVertices, int offset, int count) {
+        // Every vertex is x, y, color, u and v
+        vertexCount += count / 5;
+    }
+
+    @Override
+    public void draw(TextureRegion region, float x, float y) {
+        vertexCount += 4;
+    }
+
+    @Override
+    public void draw(TextureRegion region, float x, float y, float width, float height) {
+        vertexCount += 4;
+    }
+
+    @Override
+    public void draw(TextureRegion region, float x, float y, float originX, float originY, float width, float height,
+                     float scaleX, float scaleY, float rotation) {
+        vertexCount += 4;
+    }
+
+    @Override
+    public void draw(TextureRegion region, float x, float y, float originX, float originY, float width, float height,
+                     float scaleX, float scaleY, float rotation, boolean clockwise) {
+        vertexCount += 4;
+    }
+
+    @Override
+    public void draw(TextureRegion region, float width, float height, Affine2 transform) {
+        vertexCount += 4;
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void disableBlending() {
+        blending = false;
+    }
+
+    @Override
+    public void enableBlending() {
+        blending = true;
+    }
+
+    @Override
+    public void setBlendFunction(int srcFunc, int dstFunc) {
+    }
+
+    @Override
+    public void setBlendFunctionSeparate(int srcFuncColor, int dstFuncColor, int srcFuncAlpha, int dstFuncAlpha) {
+    }
+
+    @Override
+    public int getBlendSrcFunc() {
+        return GL20.GL_SRC_ALPHA;
+    }
+
+    @Override
+    public int getBlendDstFunc() {
+        return GL20.GL_ONE_MINUS_SRC_ALPHA;
+    }
+
+    @Override
+    public int getBlendSrcFuncAlpha() {
+        return GL20.GL_SRC_ALPHA;
+    }
+
+    @Override
+    public int getBlendDstFuncAlpha() {
+        return GL20.GL_ONE_MINUS_SRC_ALPHA;
+    }
+
+    @Override
+    public Matrix4 getProjectionMatrix() {
+        return projectionMatrix;
+    }
+
+    @Override
+    public Matrix4 getTransformMatrix() {
+        return transformMatrix;
+    }
+
+    @Override
+    public void setProjectionMatrix(Matrix4 projection) {
+        projectionMatrix.set(projection);
+    }
+
+    @Override
+    public void setTransformMatrix(Matrix4 transform) {
+        transformMatrix.set(transform);
+    }
+
+    @Override
+    public void setShader(ShaderProgram shader) {
+    }
+
+    @Override
+    public ShaderProgram getShader() {
+        return null;
+    }
+
+    @Override
+    public boolean isBlendingEnabled() {
+        return blending;
+    }
+
+    @Override
+    public boolean isDrawing() {
+        return drawing;
+    }
+
+    @Override
+    public void dispose() {
+    }
+}
@@ -0,0 +1,64 @@
+package com.ray3k.unbox2d.benchmarks;
+
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.ray3k.unbox2d.MoveBehaviour;
+import com.ray3k.unbox2d.ParallelMoveBehaviour;
+import com.ray3k.unbox2d.ParallelPhase;
+import com.ray3k.unbox2d.TransformSnapshot;
+import dev.lyze.gdxUnBox2d.Box2dPhysicsWorld;
+import dev.lyze.gdxUnBox2d.GameObject;
+import dev.lyze.gdxUnBox2d.UnBox;
+import dev.lyze.gdxUnBox2d.behaviours.box2d.Box2dBehaviour;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares moving bodies with MoveBehaviour on the game thread against ParallelMoveBehaviour in a ParallelPhase. The
+ * bodies have no fixtures, so the world step itself stays cheap and the behaviour cost dominates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParallelPhaseBenchmark {
+    @Param({"sequential", "parallel"})
+    public String mode;
+
+    @Param({"1000", "20000"})
+    public int bodyCount;
+
+    private UnBox<Box2dPhysicsWorld> unBox;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Headless.init();
+
+        unBox = Headless.createUnBox();
+        TransformSnapshot snapshot = new TransformSnapshot(new GameObject(unBox));
+        ParallelPhase phase = new ParallelPhase(new GameObject(unBox));
+        for (int i = 0; i < bodyCount; i++) {
+            GameObject gameObject = new GameObject(unBox);
+
+            BodyDef bodyDef = new BodyDef();
+            bodyDef.type = BodyType.DynamicBody;
+            bodyDef.position.set(i % 100, i / 100f);
+            new Box2dBehaviour(bodyDef, gameObject);
+
+            if (mode.equals("parallel")) new ParallelMoveBehaviour(i % 2 == 0, phase, snapshot, gameObject);
+            else new MoveBehaviour(i % 2 == 0, gameObject);
+        }
+
+        Headless.step(unBox);
+    }
+
+    @Benchmark
+    public void step() {
+        Headless.step(unBox);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        unBox.getPhysicsWorld().getWorld().dispose();
+    }
+}
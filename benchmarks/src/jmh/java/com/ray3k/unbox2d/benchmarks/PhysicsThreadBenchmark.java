@@ -0,0 +1,109 @@
+package com.ray3k.unbox2d.benchmarks;
+
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.ray3k.unbox2d.CachedSpriteBehaviour;
+import com.ray3k.unbox2d.PhysicsThread;
+import com.ray3k.unbox2d.RenderLayers;
+import com.ray3k.unbox2d.SnapshotSpriteBehaviour;
+import com.ray3k.unbox2d.TransformSnapshot;
+import dev.lyze.gdxUnBox2d.Box2dPhysicsWorld;
+import dev.lyze.gdxUnBox2d.GameObject;
+import dev.lyze.gdxUnBox2d.UnBox;
+import dev.lyze.gdxUnBox2d.behaviours.box2d.Box2dBehaviour;
+import dev.lyze.gdxUnBox2d.behaviours.box2d.fixtures.CreateBox2dCircleFixtureBehaviour;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the frame time of stepping a crowd of colliding circles and drawing their sprites through RenderLayers.
+ * "sequential" steps and then draws on one thread. "lockstep" draws the last step while a PhysicsThread runs the next
+ * one and waits for it before the next frame, so a frame takes about as long as the slower of the two. "polled" never
+ * waits and skips starting a step while the previous one still runs, so its frame time is the drawing alone.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PhysicsThreadBenchmark {
+    @Param({"sequential", "lockstep", "polled"})
+    public String mode;
+
+    @Param({"1000", "5000"})
+    public int bodyCount;
+
+    private UnBox<Box2dPhysicsWorld> unBox;
+    private TransformSnapshot snapshot;
+    private RenderLayers renderLayers;
+    private PhysicsThread physicsThread;
+    private NullBatch batch;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Headless.init();
+
+        unBox = Headless.createUnBox();
+        boolean threaded = !mode.equals("sequential");
+        renderLayers = new RenderLayers();
+        renderLayers.setDeferChanges(threaded);
+        snapshot = new TransformSnapshot(new GameObject(unBox));
+
+        int columns = (int) Math.ceil(Math.sqrt(bodyCount));
+        for (int i = 0; i < bodyCount; i++) {
+            GameObject gameObject = new GameObject(unBox);
+
+            BodyDef bodyDef = new BodyDef();
+            bodyDef.type = BodyType.DynamicBody;
+            bodyDef.position.set((i % columns) * .9f, (i / columns) * .9f);
+            new Box2dBehaviour(bodyDef, gameObject);
+            new CreateBox2dCircleFixtureBehaviour(.5f, gameObject);
+
+            Sprite sprite = new Sprite(Headless.REGIONS.findRegion("spider"));
+            sprite.setSize(1, 1);
+            sprite.setOriginCenter();
+            CachedSpriteBehaviour spriteBehaviour = threaded
+                    ? new SnapshotSpriteBehaviour(gameObject, -.5f, -.5f, sprite, 0, snapshot)
+                    : new CachedSpriteBehaviour(gameObject, -.5f, -.5f, sprite);
+            spriteBehaviour.setRenderLayers(renderLayers);
+        }
+
+        Headless.step(unBox);
+        batch = new NullBatch();
+        if (threaded) {
+            snapshot.publish();
+            physicsThread = new PhysicsThread(unBox);
+        }
+    }
+
+    @Benchmark
+    public long frame() {
+        switch (mode) {
+            case "sequential":
+                Headless.step(unBox);
+                break;
+            case "lockstep":
+                physicsThread.awaitStep();
+                snapshot.publish();
+                physicsThread.startStep(Headless.TIME_STEP);
+                break;
+            default:
+                if (physicsThread.pollStep()) {
+                    snapshot.publish();
+                    physicsThread.startStep(Headless.TIME_STEP);
+                }
+        }
+
+        batch.begin();
+        renderLayers.render(batch);
+        batch.end();
+        return batch.vertexCount;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (physicsThread != null) physicsThread.dispose();
+        renderLayers.dispose();
+        unBox.getPhysicsWorld().getWorld().dispose();
+    }
+}
@@ -0,0 +1,45 @@
+package com.ray3k.unbox2d.benchmarks;
+
+import dev.lyze.gdxUnBox2d.Box2dPhysicsWorld;
+import dev.lyze.gdxUnBox2d.UnBox;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/** Measures one fixed step of every sample world, optionally crowded with extra entities. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SampleSceneBenchmark {
+    @Param({"01", "02", "03", "04", "05", "06", "07", "08", "09", "10", "11", "12"})
+    public String scene;
+
+    @Param({"0", "1000", "10000"})
+    public int entityCount;
+
+    private UnBox<Box2dPhysicsWorld> unBox;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Headless.init();
+        Headless.muteConsole();
+
+        unBox = Headless.createUnBox();
+        Scenes.create(scene, unBox);
+        Scenes.spawnCrowd(unBox, entityCount);
+
+        // Let UnBox add the game objects and run awake and start before measuring
+        Headless.step(unBox);
+    }
+
+    @Benchmark
+    public void step() {
+        Headless.step(unBox);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        unBox.getPhysicsWorld().getWorld().dispose();
+        Headless.restoreConsole();
+    }
+}
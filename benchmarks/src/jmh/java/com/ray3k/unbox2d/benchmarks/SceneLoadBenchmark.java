@@ -0,0 +1,94 @@
+package com.ray3k.unbox2d.benchmarks;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.ray3k.unbox2d.SceneBinary;
+import com.ray3k.unbox2d.SceneData;
+import com.ray3k.unbox2d.SceneJson;
+import com.ray3k.unbox2d.SceneLoader;
+import dev.lyze.gdxUnBox2d.Box2dPhysicsWorld;
+import dev.lyze.gdxUnBox2d.UnBox;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares loading a generated level from JSON against the memory mapped binary form, once for reading the scene data
+ * alone and once including the creation of all game objects.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SceneLoadBenchmark {
+    @Param({"json", "binary"})
+    public String format;
+
+    @Param({"1000", "10000"})
+    public int entityCount;
+
+    private FileHandle directory;
+    private FileHandle file;
+    private UnBox<Box2dPhysicsWorld> unBox;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Headless.init();
+
+        directory = FileHandle.tempDirectory("scene-benchmark");
+        FileHandle json = directory.child("level.json");
+        json.writeString(generate(entityCount), false);
+        if (format.equals("json")) file = json;
+        else {
+            file = directory.child("level.scene");
+            SceneBinary.save(SceneJson.load(json), file);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void createUnBox() {
+        unBox = Headless.createUnBox();
+    }
+
+    @Benchmark
+    public void readScene(Blackhole blackhole) {
+        SceneData scene = load();
+        // Touch every record so the mapped file is actually read
+        for (int i = 0, n = scene.getEntityCount(); i < n; i++) blackhole.consume(scene.getX(i));
+    }
+
+    @Benchmark
+    public void instantiate() {
+        SceneLoader.load(load(), unBox, Headless.REGIONS);
+        Headless.step(unBox);
+    }
+
+    @TearDown(Level.Invocation)
+    public void disposeUnBox() {
+        unBox.getPhysicsWorld().getWorld().dispose();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        directory.deleteDirectory();
+    }
+
+    private SceneData load() {
+        return format.equals("json") ? SceneJson.load(file) : SceneBinary.load(file);
+    }
+
+    /** A level with static walls and dynamic crates in a grid, alternating between boxes and circles. */
+    private static String generate(int entityCount) {
+        StringBuilder builder = new StringBuilder("{ \"entities\": [\n");
+        int columns = (int) Math.ceil(Math.sqrt(entityCount));
+        for (int i = 0; i < entityCount; i++) {
+            if (i > 0) builder.append(",\n");
+            builder.append("{ \"body\": \"").append(i % 10 == 0 ? "static" : "dynamic").append('"');
+            builder.append(", \"x\": ").append((i % columns) * 1.5f).append(", \"y\": ").append((i / columns) * 1.5f);
+            if (i % 2 == 0) builder.append(", \"box\": [0.5, 0.5]");
+            else builder.append(", \"circle\": 0.5");
+            builder.append(", \"sprite\": { \"region\": \"").append(i % 2 == 0 ? "crate" : "barrel").append('"');
+            builder.append(", \"x\": -0.5, \"y\": -0.5, \"order\": ").append(i % 3).append(" } }");
+        }
+        return builder.append("\n] }").toString();
+    }
+}
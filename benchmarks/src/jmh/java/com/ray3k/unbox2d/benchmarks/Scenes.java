@@ -0,0 +1,63 @@
+package com.ray3k.unbox2d.benchmarks;
+
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.ray3k.unbox2d.*;
+import dev.lyze.gdxUnBox2d.Box2dPhysicsWorld;
+import dev.lyze.gdxUnBox2d.GameObject;
+import dev.lyze.gdxUnBox2d.UnBox;
+import dev.lyze.gdxUnBox2d.behaviours.box2d.Box2dBehaviour;
+import dev.lyze.gdxUnBox2d.behaviours.box2d.fixtures.CreateBox2dCircleFixtureBehaviour;
+
+/** Builds the sample worlds and extra entities for the benchmarks. */
+final class Scenes {
+    private Scenes() {
+    }
+
+    static void create(String scene, UnBox<Box2dPhysicsWorld> unBox) {
+        switch (scene) {
+            case "01": SampleGame01.createWorld(unBox); break;
+            case "02": SampleGame02.createWorld(unBox); break;
+            case "03": SampleGame03.createWorld(unBox); break;
+            case "04": SampleGame04.createWorld(unBox); break;
+            case "05": SampleGame05.createWorld(unBox); break;
+            case "06": SampleGame06.createWorld(unBox); break;
+            case "07": SampleGame07.createWorld(unBox); break;
+            case "08": SampleGame08.createWorld(unBox); break;
+            case "09": SampleGame09.createWorld(unBox, Headless.REGIONS); break;
+            case "10": SampleGame10.createWorld(unBox, Headless.REGIONS); break;
+            case "11": SampleGame11.createWorld(unBox, Headless.REGIONS); break;
+            case "12": SampleGame12.createWorld(unBox, Headless.REGIONS, new RenderLayers()); break;
+            default: throw new IllegalArgumentException("Unknown scene: " + scene);
+        }
+    }
+
+    /**
+     * Adds dynamic circles with sprites in a grid to the right of the sample arena, so they don't interfere with the
+     * sample's own objects.
+     */
+    static void spawnCrowd(UnBox<Box2dPhysicsWorld> unBox, int count) {
+        spawnCrowd(unBox, count, null);
+    }
+
+    /** Spawns a crowd and tracks every circle in the given world snapshot. */
+    static void spawnCrowd(UnBox<Box2dPhysicsWorld> unBox, int count, WorldSnapshot worldSnapshot) {
+        int columns = (int) Math.ceil(Math.sqrt(count));
+        for (int i = 0; i < count; i++) {
+            GameObject gameObject = new GameObject(unBox);
+
+            BodyDef bodyDef = new BodyDef();
+            bodyDef.type = BodyType.DynamicBody;
+            bodyDef.position.set(20 + (i % columns) * 1.5f, (i / columns) * 1.5f);
+            new Box2dBehaviour(bodyDef, gameObject);
+            new CreateBox2dCircleFixtureBehaviour(.5f, gameObject);
+
+            Sprite sprite = new Sprite(Headless.REGIONS.findRegion("spider"));
+            sprite.setSize(1, 1);
+            sprite.setOriginCenter();
+            CachedSpriteBehaviour spriteBehaviour = new CachedSpriteBehaviour(gameObject, -.5f, -.5f, sprite);
+            if (worldSnapshot != null) worldSnapshot.track(gameObject, spriteBehaviour);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.ray3k.unbox2d.benchmarks;
+
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.utils.Array;
+import com.ray3k.unbox2d.CachedSpriteBehaviour;
+import com.ray3k.unbox2d.GameObjectPool;
+import com.ray3k.unbox2d.Prefab;
+import dev.lyze.gdxUnBox2d.Box2dPhysicsWorld;
+import dev.lyze.gdxUnBox2d.GameObject;
+import dev.lyze.gdxUnBox2d.UnBox;
+import dev.lyze.gdxUnBox2d.behaviours.box2d.Box2dBehaviour;
+import dev.lyze.gdxUnBox2d.behaviours.box2d.fixtures.CreateBox2dCircleFixtureBehaviour;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures spawn and despawn throughput of projectiles. Every step despawns the projectiles of the previous step and
+ * spawns as many new ones, either with new game objects that are destroyed or with a {@link GameObjectPool}. The
+ * reported time is per step, the gc profiler shows the garbage created per step.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SpawnBenchmark {
+    @Param({"destroy", "pool"})
+    public String mode;
+
+    @Param({"100", "1000"})
+    public int spawnsPerStep;
+
+    private UnBox<Box2dPhysicsWorld> unBox;
+    private GameObjectPool pool;
+    private final Array<GameObject> spawned = new Array<>();
+    private int counter;
+
+    private static final Prefab PROJECTILE = new Prefab() {
+        @Override
+        public GameObject create(UnBox<Box2dPhysicsWorld> unBox, float x, float y) {
+            GameObject gameObject = new GameObject(unBox);
+
+            BodyDef bodyDef = new BodyDef();
+            bodyDef.type = BodyType.DynamicBody;
+            bodyDef.bullet = true;
+            bodyDef.position.set(x, y);
+            new Box2dBehaviour(bodyDef, gameObject);
+            new CreateBox2dCircleFixtureBehaviour(.1f, gameObject);
+
+            Sprite sprite = new Sprite(Headless.REGIONS.findRegion("bullet"));
+            sprite.setSize(.2f, .2f);
+            new CachedSpriteBehaviour(gameObject, -.1f, -.1f, sprite);
+            return gameObject;
+        }
+    };
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Headless.init();
+
+        unBox = Headless.createUnBox();
+        pool = new GameObjectPool(unBox, PROJECTILE);
+    }
+
+    /** Despawns the projectiles of the previous step, spawns new ones and steps once. */
+    @Benchmark
+    public void spawnAndDespawn() {
+        boolean pooled = mode.equals("pool");
+        for (int i = 0; i < spawned.size; i++) {
+            if (pooled) pool.free(spawned.get(i));
+            else spawned.get(i).destroy();
+        }
+        spawned.clear();
+
+        for (int i = 0; i < spawnsPerStep; i++) {
+            float x = counter++ % 100;
+            spawned.add(pooled ? pool.obtain(x, 0) : PROJECTILE.create(unBox, x, 0));
+        }
+
+        Headless.step(unBox);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        unBox.getPhysicsWorld().getWorld().dispose();
+    }
+}
@@ -0,0 +1,69 @@
+package com.ray3k.unbox2d.benchmarks;
+
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.ray3k.unbox2d.CachedSpriteBehaviour;
+import com.ray3k.unbox2d.SpriteImprovedBehaviour;
+import com.ray3k.unbox2d.TransformSnapshot;
+import dev.lyze.gdxUnBox2d.Box2dPhysicsWorld;
+import dev.lyze.gdxUnBox2d.GameObject;
+import dev.lyze.gdxUnBox2d.UnBox;
+import dev.lyze.gdxUnBox2d.behaviours.box2d.Box2dBehaviour;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per step cost of looking up the body on every step against caching it or reading a TransformSnapshot.
+ * The bodies have no velocity and fall asleep during the warmup, which is the case the sleep aware mode skips.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SpriteLookupBenchmark {
+    @Param({"SpriteImprovedBehaviour", "CachedSpriteBehaviour", "SleepAware", "TransformSnapshot"})
+    public String behaviour;
+
+    @Param({"10000"})
+    public int spriteCount;
+
+    private UnBox<Box2dPhysicsWorld> unBox;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Headless.init();
+
+        unBox = Headless.createUnBox();
+        TransformSnapshot snapshot = new TransformSnapshot(new GameObject(unBox));
+        for (int i = 0; i < spriteCount; i++) {
+            GameObject gameObject = new GameObject(unBox);
+
+            BodyDef bodyDef = new BodyDef();
+            bodyDef.type = BodyType.DynamicBody;
+            bodyDef.position.set(i % 100, i / 100f);
+            new Box2dBehaviour(bodyDef, gameObject);
+
+            Sprite sprite = new Sprite(Headless.REGIONS.findRegion("spider"));
+            sprite.setSize(1, 1);
+            if (behaviour.equals("SpriteImprovedBehaviour")) new SpriteImprovedBehaviour(gameObject, -.5f, -.5f, sprite, 0);
+            else {
+                CachedSpriteBehaviour spriteBehaviour = new CachedSpriteBehaviour(gameObject, -.5f, -.5f, sprite, 0);
+                spriteBehaviour.setSleepAware(behaviour.equals("SleepAware"));
+                if (behaviour.equals("TransformSnapshot")) spriteBehaviour.setTransformSnapshot(snapshot);
+            }
+        }
+
+        Headless.step(unBox);
+    }
+
+    @Benchmark
+    public void step() {
+        Headless.step(unBox);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        unBox.getPhysicsWorld().getWorld().dispose();
+    }
+}
@@ -0,0 +1,82 @@
+package com.ray3k.unbox2d.benchmarks;
+
+import com.badlogic.gdx.utils.JsonReader;
+import com.ray3k.unbox2d.RenderLayers;
+import com.ray3k.unbox2d.SceneJson;
+import com.ray3k.unbox2d.WorldStreamer;
+import dev.lyze.gdxUnBox2d.Box2dPhysicsWorld;
+import dev.lyze.gdxUnBox2d.GameObject;
+import dev.lyze.gdxUnBox2d.UnBox;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves the focus of a WorldStreamer through an endless generated level, so chunks are loaded in front of it and
+ * unloaded behind it, and measures the frame time on the game thread. Half of the entities of a chunk are static and
+ * baked into render layers. The layers are never rendered, so this covers creating and destroying the game objects
+ * and the bookkeeping of the baked sprites, but not building their caches.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StreamingBenchmark {
+    private static final float CHUNK_SIZE = 32;
+    /** Crosses a chunk border every 30 frames. */
+    private static final float SPEED = CHUNK_SIZE / 30;
+
+    @Param({"100", "1000"})
+    public int entitiesPerChunk;
+
+    private UnBox<Box2dPhysicsWorld> unBox;
+    private RenderLayers renderLayers;
+    private WorldStreamer streamer;
+    private float focusX;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Headless.init();
+
+        unBox = Headless.createUnBox();
+        renderLayers = new RenderLayers();
+        WorldStreamer.ChunkSource source = (chunkX, chunkY) ->
+                SceneJson.parse(new JsonReader().parse(generate(chunkX, chunkY, entitiesPerChunk)));
+        streamer = new WorldStreamer(unBox, source, CHUNK_SIZE, 2, Headless.REGIONS, renderLayers,
+                new GameObject(unBox));
+        streamer.setChunksPerFrame(1);
+        Headless.step(unBox);
+    }
+
+    @Benchmark
+    public int frame() {
+        focusX += SPEED;
+        streamer.setFocus(focusX, 0);
+        Headless.step(unBox);
+        return streamer.getChunkCount();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        streamer.dispose();
+        renderLayers.dispose();
+        unBox.getPhysicsWorld().getWorld().dispose();
+    }
+
+    /** A chunk of alternating static walls and dynamic crates in a grid, all with sprites. */
+    private static String generate(int chunkX, int chunkY, int entityCount) {
+        StringBuilder builder = new StringBuilder("{ \"entities\": [\n");
+        int columns = (int) Math.ceil(Math.sqrt(entityCount));
+        float spacing = CHUNK_SIZE / columns;
+        for (int i = 0; i < entityCount; i++) {
+            if (i > 0) builder.append(",\n");
+            float x = chunkX * CHUNK_SIZE + (i % columns) * spacing;
+            float y = chunkY * CHUNK_SIZE + (i / columns) * spacing;
+            builder.append("{ \"body\": \"").append(i % 2 == 0 ? "static" : "dynamic").append('"');
+            builder.append(", \"x\": ").append(x).append(", \"y\": ").append(y);
+            builder.append(", \"box\": [").append(spacing / 4).append(", ").append(spacing / 4).append(']');
+            builder.append(", \"sprite\": { \"region\": \"").append(i % 2 == 0 ? "wall" : "crate").append('"');
+            builder.append(", \"order\": ").append(i % 2).append(" } }");
+        }
+        return builder.append("\n] }").toString();
+    }
+}
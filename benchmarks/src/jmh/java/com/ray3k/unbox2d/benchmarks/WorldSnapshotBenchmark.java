@@ -0,0 +1,69 @@
+package com.ray3k.unbox2d.benchmarks;
+
+import com.ray3k.unbox2d.RenderLayers;
+import com.ray3k.unbox2d.SampleGame12;
+import com.ray3k.unbox2d.WorldSnapshot;
+import dev.lyze.gdxUnBox2d.Box2dPhysicsWorld;
+import dev.lyze.gdxUnBox2d.UnBox;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures saving and restoring a {@link WorldSnapshot} of the world of sample 12 plus a crowd of moving circles,
+ * next to a single fixed step of the same world. Rollback has to restore and resimulate several steps within a frame,
+ * so both should stay well below the time of a step.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WorldSnapshotBenchmark {
+    @Param({"100", "1000"})
+    public int crowd;
+
+    private UnBox<Box2dPhysicsWorld> unBox;
+    private WorldSnapshot worldSnapshot;
+    private ByteBuffer saveBuffer;
+    private ByteBuffer restoreBuffer;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Headless.init();
+        Headless.muteConsole();
+
+        unBox = Headless.createUnBox();
+        worldSnapshot = SampleGame12.createWorld(unBox, Headless.REGIONS, new RenderLayers());
+        Scenes.spawnCrowd(unBox, crowd, worldSnapshot);
+        // Create the bodies and let the crowd collide for a while so there are awake and sleeping bodies
+        for (int i = 0; i < 60; i++) Headless.step(unBox);
+
+        saveBuffer = ByteBuffer.allocate(worldSnapshot.getSize());
+        restoreBuffer = ByteBuffer.allocate(worldSnapshot.getSize());
+        worldSnapshot.save(restoreBuffer);
+    }
+
+    @Benchmark
+    public void save() {
+        saveBuffer.clear();
+        worldSnapshot.save(saveBuffer);
+    }
+
+    @Benchmark
+    public void restore() {
+        restoreBuffer.rewind();
+        worldSnapshot.restore(restoreBuffer);
+    }
+
+    /** The baseline a snapshot is compared against. */
+    @Benchmark
+    public void step() {
+        Headless.step(unBox);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        unBox.getPhysicsWorld().getWorld().dispose();
+        Headless.restoreConsole();
+    }
+}
@@ -0,0 +1,84 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Copies records into a preallocated ring buffer and writes them to another appender on a daemon thread. Appending
+ * never allocates or waits for the console. When the writer falls behind and the buffer is full, new records are
+ * dropped and counted instead of stalling the game thread.
+ * <p>
+ * Dispose the appender on exit to write the records that are still buffered. Not available on GWT.
+ */
+public class AsyncRingBufferAppender implements LogAppender, Disposable {
+    private final LogRecord[] records;
+    private final LogAppender target;
+    private final Thread writer;
+    /** Total number of records appended and written. The buffer holds the records between tail and head. */
+    private long head, tail;
+    private long dropped;
+    private boolean running = true;
+
+    public AsyncRingBufferAppender(int capacity, LogAppender target) {
+        this.target = target;
+        records = new LogRecord[capacity];
+        for (int i = 0; i < capacity; i++) records[i] = new LogRecord();
+
+        writer = new Thread(this::write, "Log writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public synchronized void append(LogRecord record) {
+        if (head - tail == records.length) {
+            dropped++;
+            return;
+        }
+
+        records[(int) (head % records.length)].set(record);
+        if (head++ == tail) notifyAll();
+    }
+
+    /** @return how many records were dropped because the buffer was full. */
+    public synchronized long getDropped() {
+        return dropped;
+    }
+
+    /** Stops the writer after it has written the buffered records. */
+    @Override
+    public void dispose() {
+        synchronized (this) {
+            running = false;
+            notifyAll();
+        }
+
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void write() {
+        LogRecord record = new LogRecord();
+        while (true) {
+            synchronized (this) {
+                while (head == tail) {
+                    if (!running) return;
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+
+                LogRecord next = records[(int) (tail % records.length)];
+                record.set(next);
+                next.argument = null;
+                tail++;
+            }
+
+            target.append(record);
+        }
+    }
+}
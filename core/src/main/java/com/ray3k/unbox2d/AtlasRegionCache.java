@@ -0,0 +1,35 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Looks up atlas regions by name in a hash map. {@link TextureAtlas#findRegion(String)} scans all regions of the atlas
+ * on every call. Like findRegion, a name that is used by several regions resolves to the first of them.
+ */
+public class AtlasRegionCache implements RegionProvider {
+    private final ObjectMap<String, AtlasRegion> regions = new ObjectMap<>();
+
+    public AtlasRegionCache() {
+    }
+
+    public AtlasRegionCache(TextureAtlas atlas) {
+        addAll(atlas);
+    }
+
+    /** Adds the regions of the atlas. Names that are already known keep their region. */
+    public void addAll(TextureAtlas atlas) {
+        Array<AtlasRegion> atlasRegions = atlas.getRegions();
+        for (int i = 0, n = atlasRegions.size; i < n; i++) {
+            AtlasRegion region = atlasRegions.get(i);
+            if (!regions.containsKey(region.name)) regions.put(region.name, region);
+        }
+    }
+
+    @Override
+    public AtlasRegion findRegion(String name) {
+        return regions.get(name);
+    }
+}
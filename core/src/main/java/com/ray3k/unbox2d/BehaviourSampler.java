@@ -0,0 +1,113 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.ray3k.unbox2d.FrameProfiler.Phase;
+import dev.lyze.gdxUnBox2d.Behaviour;
+
+/**
+ * Times the behaviour callbacks of one thread for a {@link FrameProfiler}, without any code in the behaviours. UnBox
+ * dispatches the callbacks from inside preRender and render, so a daemon thread takes a stack trace of the sampled
+ * thread at a fixed interval instead and adds the time since the previous sample to the innermost behaviour callback
+ * on the stack: fixedUpdate and the buffered collision callbacks count as {@link Phase#FIXED_UPDATE}, update and
+ * lateUpdate as {@link Phase#UPDATE}, render as {@link Phase#RENDER} and the Box2D collision callbacks as
+ * {@link Phase#PHYSICS}. This covers the behaviours of the library as well as those of the game.
+ * <p>
+ * The time is attributed to the class that declares the callback, and a class has to run for a few intervals per window
+ * before its average is reliable. Samples are only taken while the profiler is active, each one briefly pauses the
+ * sampled thread. Not available on GWT.
+ */
+public class BehaviourSampler implements Disposable {
+    private final FrameProfiler profiler;
+    private final Thread sampled;
+    private final long intervalNanos;
+    private final Thread sampler;
+    /** Behaviour classes by name, null for classes that are no behaviours. Only used by the sampler thread. */
+    private final ObjectMap<String, Class<?>> classes = new ObjectMap<>();
+    private volatile boolean running = true;
+
+    /** Samples the given thread every millisecond. */
+    public BehaviourSampler(FrameProfiler profiler, Thread sampled) {
+        this(profiler, sampled, 1000000);
+    }
+
+    public BehaviourSampler(FrameProfiler profiler, Thread sampled, long intervalNanos) {
+        this.profiler = profiler;
+        this.sampled = sampled;
+        this.intervalNanos = intervalNanos;
+
+        sampler = new Thread(this::run, "Behaviour sampler");
+        sampler.setDaemon(true);
+        sampler.start();
+    }
+
+    @Override
+    public void dispose() {
+        running = false;
+        sampler.interrupt();
+    }
+
+    private void run() {
+        long last = System.nanoTime();
+        while (running) {
+            try {
+                Thread.sleep(intervalNanos / 1000000, (int) (intervalNanos % 1000000));
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            long now = System.nanoTime();
+            long elapsed = now - last;
+            last = now;
+            if (profiler.isActive()) sample(sampled.getStackTrace(), elapsed);
+        }
+    }
+
+    private void sample(StackTraceElement[] stack, long nanos) {
+        for (StackTraceElement element : stack) {
+            Phase phase = getPhase(element.getMethodName());
+            if (phase == null) continue;
+
+            Class<?> type = getBehaviourClass(element.getClassName());
+            if (type == null) continue;
+
+            profiler.record(type, phase, nanos);
+            return;
+        }
+    }
+
+    private static Phase getPhase(String method) {
+        switch (method) {
+            case "fixedUpdate":
+            case "onBufferedCollisionEnter":
+            case "onBufferedCollisionExit":
+                return Phase.FIXED_UPDATE;
+            case "update":
+            case "lateUpdate":
+                return Phase.UPDATE;
+            case "render":
+                return Phase.RENDER;
+            case "onCollisionEnter":
+            case "onCollisionExit":
+            case "onCollisionPreSolve":
+            case "onCollisionPostSolve":
+                return Phase.PHYSICS;
+            default:
+                return null;
+        }
+    }
+
+    private Class<?> getBehaviourClass(String name) {
+        if (classes.containsKey(name)) return classes.get(name);
+
+        Class<?> type;
+        try {
+            type = Class.forName(name, false, BehaviourSampler.class.getClassLoader());
+            if (!Behaviour.class.isAssignableFrom(type)) type = null;
+        } catch (ClassNotFoundException | LinkageError e) {
+            type = null;
+        }
+        classes.put(name, type);
+        return type;
+    }
+}
@@ -0,0 +1,92 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.physics.box2d.Body;
+
+/**
+ * Queues changes to bodies so they can be recorded on a worker thread and applied later on the thread that owns the
+ * world. Commands are kept in growing primitive arrays and applied in the order they were recorded.
+ */
+public class BodyCommandBuffer {
+    private static final int APPLY_LINEAR_IMPULSE = 0, APPLY_FORCE_TO_CENTER = 1, SET_LINEAR_VELOCITY = 2,
+            SET_ANGULAR_VELOCITY = 3;
+    private static final int ARGUMENTS = 4;
+
+    private Body[] bodies = new Body[16];
+    private byte[] types = new byte[16];
+    private float[] arguments = new float[16 * ARGUMENTS];
+    private int size;
+
+    /** Applies the impulse at the given world point and wakes the body. */
+    public void applyLinearImpulse(Body body, float impulseX, float impulseY, float pointX, float pointY) {
+        add(body, APPLY_LINEAR_IMPULSE, impulseX, impulseY, pointX, pointY);
+    }
+
+    /** Applies the force to the center of mass and wakes the body. */
+    public void applyForceToCenter(Body body, float forceX, float forceY) {
+        add(body, APPLY_FORCE_TO_CENTER, forceX, forceY, 0, 0);
+    }
+
+    public void setLinearVelocity(Body body, float x, float y) {
+        add(body, SET_LINEAR_VELOCITY, x, y, 0, 0);
+    }
+
+    public void setAngularVelocity(Body body, float omega) {
+        add(body, SET_ANGULAR_VELOCITY, omega, 0, 0, 0);
+    }
+
+    /** Executes all commands in order and clears the buffer. Must be called while the world is not stepping. */
+    public void apply() {
+        for (int i = 0; i < size; i++) {
+            Body body = bodies[i];
+            int a = i * ARGUMENTS;
+            switch (types[i]) {
+                case APPLY_LINEAR_IMPULSE:
+                    body.applyLinearImpulse(arguments[a], arguments[a + 1], arguments[a + 2], arguments[a + 3], true);
+                    break;
+                case APPLY_FORCE_TO_CENTER:
+                    body.applyForceToCenter(arguments[a], arguments[a + 1], true);
+                    break;
+                case SET_LINEAR_VELOCITY:
+                    body.setLinearVelocity(arguments[a], arguments[a + 1]);
+                    break;
+                case SET_ANGULAR_VELOCITY:
+                    body.setAngularVelocity(arguments[a]);
+                    break;
+            }
+            bodies[i] = null;
+        }
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void add(Body body, int type, float a, float b, float c, float d) {
+        if (size == bodies.length) grow();
+
+        bodies[size] = body;
+        types[size] = (byte) type;
+        int offset = size * ARGUMENTS;
+        arguments[offset] = a;
+        arguments[offset + 1] = b;
+        arguments[offset + 2] = c;
+        arguments[offset + 3] = d;
+        size++;
+    }
+
+    private void grow() {
+        int capacity = bodies.length * 2;
+        Body[] newBodies = new Body[capacity];
+        System.arraycopy(bodies, 0, newBodies, 0, size);
+        bodies = newBodies;
+
+        byte[] newTypes = new byte[capacity];
+        System.arraycopy(types, 0, newTypes, 0, size);
+        types = newTypes;
+
+        float[] newArguments = new float[capacity * ARGUMENTS];
+        System.arraycopy(arguments, 0, newArguments, 0, size * ARGUMENTS);
+        arguments = newArguments;
+    }
+}
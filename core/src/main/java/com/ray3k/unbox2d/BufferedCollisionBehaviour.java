@@ -0,0 +1,76 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import dev.lyze.gdxUnBox2d.Behaviour;
+import dev.lyze.gdxUnBox2d.GameObject;
+import dev.lyze.gdxUnBox2d.behaviours.box2d.Box2dBehaviour;
+import dev.lyze.gdxUnBox2d.behaviours.box2d.Box2dBehaviourAdapter;
+
+/**
+ * A collision behaviour that receives its contacts through a {@link ContactEventBuffer} after the world has stepped
+ * instead of from inside the contact listener. The Box2D contact is only valid during the step, so the events carry
+ * the filter category of the other fixture instead. Without a buffer the events are delivered immediately.
+ */
+public class BufferedCollisionBehaviour extends Box2dBehaviourAdapter {
+    private final ContactEventBuffer buffer;
+    /** The chain of pending events in the buffer, maintained by the buffer. */
+    int firstEvent = -1, lastEvent = -1;
+    /** Set once the game object is being destroyed, so the buffer drops the remaining events. */
+    boolean destroyed;
+    private Body body;
+
+    public BufferedCollisionBehaviour(GameObject gameObject) {
+        this(null, gameObject);
+    }
+
+    public BufferedCollisionBehaviour(ContactEventBuffer buffer, GameObject gameObject) {
+        super(gameObject);
+        this.buffer = buffer;
+    }
+
+    @Override
+    public void onCollisionEnter(Behaviour other, Contact contact) {
+        short category = getOtherCategory(contact);
+        if (buffer != null) buffer.record(this, other, category, true);
+        else onBufferedCollisionEnter(other, category);
+    }
+
+    @Override
+    public void onCollisionExit(Behaviour other, Contact contact) {
+        short category = getOtherCategory(contact);
+        if (buffer != null) buffer.record(this, other, category, false);
+        else onBufferedCollisionExit(other, category);
+    }
+
+    @Override
+    public void onDestroy() {
+        destroyed = true;
+    }
+
+    /**
+     * Destroys the game object and drops the events still pending for this behaviour. UnBox may call onDestroy later,
+     * so after calling {@link GameObject#destroy()} directly the pending events would still be delivered.
+     */
+    protected void destroyGameObject() {
+        destroyed = true;
+        getGameObject().destroy();
+    }
+
+    /** @param category the category bits of the fixture of the contact that is not attached to this body. */
+    protected void onBufferedCollisionEnter(Behaviour other, short category) {
+    }
+
+    /** @param category the category bits of the fixture of the contact that is not attached to this body. */
+    protected void onBufferedCollisionExit(Behaviour other, short category) {
+    }
+
+    private short getOtherCategory(Contact contact) {
+        // The body exists by the time Box2D reports contacts for it
+        if (body == null) body = getGameObject().getBehaviour(Box2dBehaviour.class).getBody();
+        Fixture fixture = contact.getFixtureA();
+        if (fixture.getBody() == body) fixture = contact.getFixtureB();
+        return fixture.getFilterData().categoryBits;
+    }
+}
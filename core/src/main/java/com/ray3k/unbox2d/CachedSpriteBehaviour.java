@@ -0,0 +1,182 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import dev.lyze.gdxUnBox2d.GameObject;
+import dev.lyze.gdxUnBox2d.behaviours.BehaviourAdapter;
+import dev.lyze.gdxUnBox2d.behaviours.box2d.Box2dBehaviour;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A sprite behaviour that looks up the {@link Box2dBehaviour} of its game object once instead of on every fixed
+ * step. Call {@link #invalidateBody()} after adding or destroying a Box2dBehaviour on the game object so the lookup
+ * is refreshed on the next step.
+ * <p>
+ * With {@link #setSleepAware(boolean)} the sprite is only synced with bodies that can have moved. Static bodies are
+ * synced once and sleeping bodies are skipped until Box2D wakes them up. Box2D does not wake a body when it is moved
+ * with {@link Body#setTransform}, so call {@link #invalidateBody()} after teleporting a sleeping or static body.
+ * <p>
+ * While {@link RenderMode#isHeadless()} the sprite is never synced, drawn or added to a snapshot.
+ * <p>
+ * The sprite has no state of its own for a {@link WorldSnapshot}. Track it anyway so it is resynced after a restore,
+ * which may have moved a sleeping body.
+ */
+public class CachedSpriteBehaviour extends BehaviourAdapter implements Textured, Snapshotable {
+    protected final float offsetX;
+    protected final float offsetY;
+    protected final Sprite sprite;
+    private Box2dBehaviour box2dBehaviour;
+    private boolean bodyResolved;
+    private RenderLayers renderLayers;
+    private boolean sleepAware;
+    private boolean synced;
+    private boolean staticBody;
+    private TransformSnapshot snapshot;
+    private int snapshotSlot = -1;
+
+    public CachedSpriteBehaviour(GameObject gameObject, float offsetX, float offsetY, Sprite sprite) {
+        super(gameObject);
+        this.offsetX = offsetX;
+        this.offsetY = offsetY;
+        this.sprite = sprite;
+    }
+
+    public CachedSpriteBehaviour(GameObject gameObject, float offsetX, float offsetY, Sprite sprite, float renderOrder) {
+        this(gameObject, offsetX, offsetY, sprite);
+        setRenderOrder(renderOrder);
+    }
+
+    @Override
+    public void start() {
+        resolveBody();
+        if (RenderMode.isHeadless()) return;
+        if (renderLayers != null) renderLayers.add(this);
+
+        Body body = getBody();
+        if (snapshot != null && body != null) snapshotSlot = snapshot.register(body);
+    }
+
+    @Override
+    public void onDestroy() {
+        if (renderLayers != null) renderLayers.remove(this);
+        if (snapshotSlot != -1) snapshot.unregister(snapshotSlot);
+        snapshotSlot = -1;
+    }
+
+    @Override
+    public void fixedUpdate() {
+        if (RenderMode.isHeadless()) return;
+        if (needsSync()) sync();
+    }
+
+    @Override
+    public void render(Batch batch) {
+        if (RenderMode.isHeadless()) return;
+        sprite.draw(batch);
+    }
+
+    /** Forces the Box2dBehaviour to be looked up again and the sprite to be synced on the next step. */
+    public void invalidateBody() {
+        bodyResolved = false;
+        synced = false;
+    }
+
+    /** @return the body of the cached Box2dBehaviour or null if the game object has none. */
+    public Body getBody() {
+        if (!bodyResolved) resolveBody();
+        return box2dBehaviour == null ? null : box2dBehaviour.getBody();
+    }
+
+    public Sprite getSprite() {
+        return sprite;
+    }
+
+    @Override
+    public Texture getTexture() {
+        return sprite.getTexture();
+    }
+
+    public boolean isSleepAware() {
+        return sleepAware;
+    }
+
+    /** Skips syncing the sprite with static and sleeping bodies once it has been synced. Off by default. */
+    public void setSleepAware(boolean sleepAware) {
+        this.sleepAware = sleepAware;
+        synced = false;
+    }
+
+    @Override
+    public int getStateSize() {
+        return 0;
+    }
+
+    @Override
+    public void saveState(ByteBuffer buffer) {
+    }
+
+    @Override
+    public void restoreState(ByteBuffer buffer) {
+        synced = false;
+    }
+
+    /** @return false if the sprite is sleep aware, already synced and the body cannot have moved since. */
+    protected boolean needsSync() {
+        if (!sleepAware || !synced) return true;
+
+        Body body = getBody();
+        return body != null && !staticBody && body.isAwake();
+    }
+
+    /** Remembers that the sprite matches the body. The body type is cached here to save a native call per step. */
+    protected void markSynced(Body body) {
+        synced = true;
+        staticBody = body != null && body.getType() == BodyType.StaticBody;
+    }
+
+    /**
+     * Renders this sprite through the given layers instead of {@link dev.lyze.gdxUnBox2d.UnBox#render}. It is added
+     * when the behaviour starts and removed when it is destroyed, so this has to be set before the behaviour starts.
+     */
+    public void setRenderLayers(RenderLayers renderLayers) {
+        this.renderLayers = renderLayers;
+    }
+
+    /**
+     * Reads the transform of the body from the given snapshot instead of from the body. The body is registered when the
+     * behaviour starts and unregistered when it is destroyed, so this has to be set before the behaviour starts.
+     */
+    public void setTransformSnapshot(TransformSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    public TransformSnapshot getTransformSnapshot() {
+        return snapshot;
+    }
+
+    /** @return the slot of the body in the transform snapshot or -1 if it is not read from a snapshot. */
+    public int getSnapshotSlot() {
+        return snapshotSlot;
+    }
+
+    private void sync() {
+        Body body = getBody();
+        if (snapshotSlot != -1)
+            sprite.setPosition(snapshot.getX(snapshotSlot) + offsetX, snapshot.getY(snapshotSlot) + offsetY);
+        else if (body != null) {
+            Vector2 position = body.getPosition();
+            sprite.setPosition(position.x + offsetX, position.y + offsetY);
+        } else sprite.setPosition(offsetX, offsetY);
+        markSynced(body);
+    }
+
+    private void resolveBody() {
+        box2dBehaviour = getGameObject().getBehaviour(Box2dBehaviour.class);
+        bodyResolved = true;
+    }
+}
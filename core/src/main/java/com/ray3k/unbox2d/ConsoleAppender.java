@@ -0,0 +1,16 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.Application;
+
+/** Writes records to standard out, errors to standard error. Blocks until the console has taken the line. */
+public class ConsoleAppender implements LogAppender {
+    private final StringBuilder builder = new StringBuilder();
+
+    @Override
+    public void append(LogRecord record) {
+        builder.setLength(0);
+        record.format(builder);
+        if (record.level == Application.LOG_ERROR) System.err.println(builder);
+        else System.out.println(builder);
+    }
+}
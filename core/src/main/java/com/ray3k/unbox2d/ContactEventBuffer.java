@@ -0,0 +1,88 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.utils.Array;
+import dev.lyze.gdxUnBox2d.Behaviour;
+import dev.lyze.gdxUnBox2d.GameObject;
+import dev.lyze.gdxUnBox2d.behaviours.BehaviourAdapter;
+
+/**
+ * Records the contacts reported to {@link BufferedCollisionBehaviour}s while the world steps and dispatches them in
+ * one pass in the next {@link #fixedUpdate()}. Events are grouped by the behaviour that receives them and keep their
+ * order within a group. Receivers can destroy game objects or bodies safely because the world is not locked. Contacts
+ * are handled once per fixed step rather than once per frame, so the simulation does not depend on the frame rate.
+ * <p>
+ * Events are pooled. The pool starts at the given capacity and only grows when a step reports more contacts.
+ */
+public class ContactEventBuffer extends BehaviourAdapter {
+    private final Array<ContactEvent> events;
+    private int eventCount;
+    /** Receivers with at least one pending event, in the order they first received one. */
+    private final Array<BufferedCollisionBehaviour> receivers = new Array<>(false, 16);
+
+    public ContactEventBuffer(GameObject gameObject) {
+        this(256, gameObject);
+    }
+
+    public ContactEventBuffer(int capacity, GameObject gameObject) {
+        super(gameObject);
+        events = new Array<>(capacity);
+        for (int i = 0; i < capacity; i++) events.add(new ContactEvent());
+    }
+
+    @Override
+    public void fixedUpdate() {
+        dispatch();
+    }
+
+    void record(BufferedCollisionBehaviour receiver, Behaviour other, short category, boolean begin) {
+        if (eventCount == events.size) events.add(new ContactEvent());
+        int index = eventCount++;
+        ContactEvent event = events.get(index);
+        event.other = other;
+        event.category = category;
+        event.begin = begin;
+        event.next = -1;
+
+        if (receiver.firstEvent == -1) {
+            receiver.firstEvent = index;
+            receivers.add(receiver);
+        } else events.get(receiver.lastEvent).next = index;
+        receiver.lastEvent = index;
+    }
+
+    /** Delivers all recorded events and clears the buffer. */
+    public void dispatch() {
+        for (int i = 0; i < receivers.size; i++) {
+            BufferedCollisionBehaviour receiver = receivers.get(i);
+            int index = receiver.firstEvent;
+            receiver.firstEvent = -1;
+            receiver.lastEvent = -1;
+
+            for (; index != -1; index = events.get(index).next) {
+                ContactEvent event = events.get(index);
+                if (receiver.destroyed) break;
+                if (!receiver.isEnabled()) continue;
+
+                if (event.begin) receiver.onBufferedCollisionEnter(event.other, event.category);
+                else receiver.onBufferedCollisionExit(event.other, event.category);
+            }
+        }
+
+        for (int i = 0; i < eventCount; i++) events.get(i).other = null;
+        eventCount = 0;
+        receivers.clear();
+    }
+
+    /** @return the number of events waiting to be dispatched. */
+    public int size() {
+        return eventCount;
+    }
+
+    private static class ContactEvent {
+        private Behaviour other;
+        private short category;
+        private boolean begin;
+        /** Index of the next event of the same receiver or -1. */
+        private int next;
+    }
+}
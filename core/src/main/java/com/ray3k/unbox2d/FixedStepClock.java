@@ -0,0 +1,63 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.math.MathUtils;
+import dev.lyze.gdxUnBox2d.GameObject;
+import dev.lyze.gdxUnBox2d.behaviours.BehaviourAdapter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Tracks how far the frame time has advanced past the last fixed step. UnBox does not expose its accumulator, so
+ * this behaviour mirrors it by counting the fixed steps taken during each preRender. The time step has to match the
+ * one the physics world is stepped with.
+ */
+public class FixedStepClock extends BehaviourAdapter implements Snapshotable {
+    private final float timeStep;
+    private float accumulator;
+    private int steps;
+
+    public FixedStepClock(GameObject gameObject) {
+        this(1 / 60f, gameObject);
+    }
+
+    public FixedStepClock(float timeStep, GameObject gameObject) {
+        super(gameObject);
+        this.timeStep = timeStep;
+    }
+
+    @Override
+    public void fixedUpdate() {
+        steps++;
+    }
+
+    @Override
+    public void update(float delta) {
+        accumulator = MathUtils.clamp(accumulator + delta - steps * timeStep, 0, timeStep);
+        steps = 0;
+    }
+
+    /** @return the fraction of a fixed step that has elapsed since the last one, between 0 and 1. */
+    public float getAlpha() {
+        return accumulator / timeStep;
+    }
+
+    public float getTimeStep() {
+        return timeStep;
+    }
+
+    /** Saves nothing. The accumulator mirrors the one of UnBox, which a snapshot does not rewind. */
+    @Override
+    public int getStateSize() {
+        return 0;
+    }
+
+    @Override
+    public void saveState(ByteBuffer buffer) {
+    }
+
+    /** Forgets the steps counted since the last update, they belong to the timeline before the restore. */
+    @Override
+    public void restoreState(ByteBuffer buffer) {
+        steps = 0;
+    }
+}
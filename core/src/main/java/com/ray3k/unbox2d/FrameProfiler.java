@@ -0,0 +1,231 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * Records nanosecond timings of the phases of a frame and of the behaviour classes that run in them, and averages them
+ * over a window of frames.
+ * <p>
+ * The game wraps the calls of its render method in {@link #begin(Phase)} and {@link #end(Phase)} and closes every frame
+ * with {@link #endFrame(int)}. UnBox runs the world step and the behaviour callbacks inside preRender, so a
+ * {@link BehaviourSampler} attributes the time of the callbacks to their classes, and {@link Phase#PHYSICS} is what is
+ * left of preRender after fixedUpdate and update. Code outside the callbacks can be timed with {@link #start()} and
+ * {@link #stop(Class, Phase, long)}, which cost a null check while no profiler is active. A phase the game times with
+ * begin and end keeps that time, a phase it does not time is the sum of what was recorded for the classes.
+ * <p>
+ * Timings may be recorded from another thread than the one calling {@link #endFrame(int)}, for example for a
+ * {@link PhysicsThread}. Recording is synchronized, and a step that overlaps the end of a frame counts towards the next.
+ */
+public class FrameProfiler {
+    public enum Phase {
+        PRE_RENDER, PHYSICS, FIXED_UPDATE, UPDATE, RENDER, DEBUG_DRAW, POST_RENDER
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+    private static volatile FrameProfiler active;
+
+    private final int windowFrames;
+    private final long[] phaseStart = new long[PHASES.length];
+    private final long[] frame = new long[PHASES.length];
+    private final boolean[] timed = new boolean[PHASES.length];
+    private final long[] reported = new long[PHASES.length];
+    private final long[] window = new long[PHASES.length];
+    private final float[] average = new float[PHASES.length];
+    private final ObjectMap<Class<?>, ClassStats> classStats = new ObjectMap<>();
+    private final Array<ClassStats> sortedClasses = new Array<>();
+    private long windowRenderCalls;
+    private float averageRenderCalls;
+    private int framesInWindow;
+    private int windows;
+    private long frameIndex;
+    private StringBuilder csv;
+
+    public FrameProfiler() {
+        this(60);
+    }
+
+    /** @param windowFrames the number of frames the averages are taken over. */
+    public FrameProfiler(int windowFrames) {
+        this.windowFrames = windowFrames;
+    }
+
+    /** @return the time to pass to {@link #stop(Class, Phase, long)}, or 0 if no profiler is active. */
+    public static long start() {
+        return active == null ? 0 : TimeUtils.nanoTime();
+    }
+
+    /**
+     * Adds the time since start to the given class and phase of the active profiler. Does nothing if start was taken
+     * while no profiler was active.
+     */
+    public static void stop(Class<?> type, Phase phase, long start) {
+        FrameProfiler profiler = active;
+        if (profiler != null && start != 0) profiler.record(type, phase, TimeUtils.nanoTime() - start);
+    }
+
+    /** Makes this the profiler that records timings, or stops recording them. */
+    public void setActive(boolean active) {
+        if (active) FrameProfiler.active = this;
+        else if (FrameProfiler.active == this) FrameProfiler.active = null;
+    }
+
+    public boolean isActive() {
+        return active == this;
+    }
+
+    public void begin(Phase phase) {
+        timed[phase.ordinal()] = true;
+        phaseStart[phase.ordinal()] = TimeUtils.nanoTime();
+    }
+
+    public void end(Phase phase) {
+        frame[phase.ordinal()] += TimeUtils.nanoTime() - phaseStart[phase.ordinal()];
+    }
+
+    /** @param renderCalls the number of draw calls of the frame, for example {@code SpriteBatch.renderCalls}. */
+    public synchronized void endFrame(int renderCalls) {
+        for (int i = 0; i < PHASES.length; i++) {
+            if (!timed[i]) frame[i] = reported[i];
+            timed[i] = false;
+            reported[i] = 0;
+        }
+
+        int physics = Phase.PHYSICS.ordinal();
+        frame[physics] = Math.max(0, frame[Phase.PRE_RENDER.ordinal()] - frame[Phase.FIXED_UPDATE.ordinal()]
+                - frame[Phase.UPDATE.ordinal()]);
+
+        if (csv != null) appendCsv(renderCalls);
+
+        for (int i = 0; i < PHASES.length; i++) {
+            window[i] += frame[i];
+            frame[i] = 0;
+        }
+        for (ClassStats stats : classStats.values()) {
+            for (int i = 0; i < PHASES.length; i++) {
+                stats.window[i] += stats.frame[i];
+                stats.frame[i] = 0;
+            }
+        }
+        windowRenderCalls += renderCalls;
+        frameIndex++;
+
+        if (++framesInWindow == windowFrames) closeWindow();
+    }
+
+    /** @return the average time of the phase in milliseconds over the last window. */
+    public float getAverage(Phase phase) {
+        return average[phase.ordinal()];
+    }
+
+    public float getAverageRenderCalls() {
+        return averageRenderCalls;
+    }
+
+    /** @return the classes that reported in the last window, slowest first. */
+    public Array<ClassStats> getClasses() {
+        return sortedClasses;
+    }
+
+    /** @return how many windows have been closed, changes whenever the averages are updated. */
+    public int getWindows() {
+        return windows;
+    }
+
+    /** Starts collecting the timings of every frame until {@link #stopRecording(FileHandle)}. */
+    public synchronized void startRecording() {
+        csv = new StringBuilder("frame,source,phase,nanos\n");
+    }
+
+    public boolean isRecording() {
+        return csv != null;
+    }
+
+    /**
+     * Writes the recorded frames as CSV, one row per frame, source and phase. The source is either {@code frame} for
+     * the phases of the whole frame or the simple name of a behaviour class.
+     */
+    public synchronized void stopRecording(FileHandle file) {
+        if (csv == null) return;
+        file.writeString(csv.toString(), false);
+        csv = null;
+    }
+
+    synchronized void record(Class<?> type, Phase phase, long nanos) {
+        reported[phase.ordinal()] += nanos;
+
+        ClassStats stats = classStats.get(type);
+        if (stats == null) {
+            stats = new ClassStats(type.getSimpleName());
+            classStats.put(type, stats);
+        }
+        stats.frame[phase.ordinal()] += nanos;
+    }
+
+    private void closeWindow() {
+        for (int i = 0; i < PHASES.length; i++) {
+            average[i] = window[i] / (float) framesInWindow / 1000000f;
+            window[i] = 0;
+        }
+        averageRenderCalls = windowRenderCalls / (float) framesInWindow;
+        windowRenderCalls = 0;
+
+        sortedClasses.clear();
+        for (ClassStats stats : classStats.values()) {
+            stats.total = 0;
+            for (int i = 0; i < PHASES.length; i++) {
+                stats.average[i] = stats.window[i] / (float) framesInWindow / 1000000f;
+                stats.total += stats.average[i];
+                stats.window[i] = 0;
+            }
+            if (stats.total > 0) sortedClasses.add(stats);
+        }
+        sortedClasses.sort((a, b) -> Float.compare(b.total, a.total));
+
+        framesInWindow = 0;
+        windows++;
+    }
+
+    private void appendCsv(int renderCalls) {
+        for (int i = 0; i < PHASES.length; i++)
+            csv.append(frameIndex).append(",frame,").append(PHASES[i].name()).append(',').append(frame[i]).append('\n');
+        csv.append(frameIndex).append(",frame,RENDER_CALLS,").append(renderCalls).append('\n');
+
+        for (ClassStats stats : classStats.values()) {
+            for (int i = 0; i < PHASES.length; i++) {
+                if (stats.frame[i] == 0) continue;
+                csv.append(frameIndex).append(',').append(stats.name).append(',').append(PHASES[i].name()).append(',')
+                        .append(stats.frame[i]).append('\n');
+            }
+        }
+    }
+
+    /** The timings of one behaviour class. */
+    public static class ClassStats {
+        private final String name;
+        private final long[] frame = new long[PHASES.length];
+        private final long[] window = new long[PHASES.length];
+        private final float[] average = new float[PHASES.length];
+        private float total;
+
+        private ClassStats(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /** @return the average time per frame in milliseconds over the last window. */
+        public float getAverage(Phase phase) {
+            return average[phase.ordinal()];
+        }
+
+        /** @return the average time of all phases per frame in milliseconds over the last window. */
+        public float getTotal() {
+            return total;
+        }
+    }
+}
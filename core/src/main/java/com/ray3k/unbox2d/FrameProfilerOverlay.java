@@ -0,0 +1,71 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.ray3k.unbox2d.FrameProfiler.ClassStats;
+import com.ray3k.unbox2d.FrameProfiler.Phase;
+
+/**
+ * Draws the averages of a {@link FrameProfiler} in the top left corner of the screen: the time of every phase, the
+ * draw calls and the slowest behaviour classes. The text is only rebuilt when the profiler closes a window.
+ */
+public class FrameProfilerOverlay implements Disposable {
+    private final FrameProfiler profiler;
+    private final BitmapFont font = new BitmapFont();
+    private final Matrix4 screenProjection = new Matrix4();
+    private final Matrix4 previousProjection = new Matrix4();
+    private final StringBuilder text = new StringBuilder();
+    private int maxClasses = 8;
+    private int windows = -1;
+
+    public FrameProfilerOverlay(FrameProfiler profiler) {
+        this.profiler = profiler;
+        font.setColor(Color.WHITE);
+    }
+
+    /** Draws the overlay in screen coordinates. The batch must not be drawing. */
+    public void render(Batch batch) {
+        if (windows != profiler.getWindows()) {
+            windows = profiler.getWindows();
+            buildText();
+        }
+
+        previousProjection.set(batch.getProjectionMatrix());
+        screenProjection.setToOrtho2D(0, 0, Gdx.graphics.getBackBufferWidth(), Gdx.graphics.getBackBufferHeight());
+        batch.setProjectionMatrix(screenProjection);
+        batch.begin();
+        font.draw(batch, text, 8, Gdx.graphics.getBackBufferHeight() - 8);
+        batch.end();
+        batch.setProjectionMatrix(previousProjection);
+    }
+
+    /** Sets how many behaviour classes are listed at most. */
+    public void setMaxClasses(int maxClasses) {
+        this.maxClasses = maxClasses;
+    }
+
+    private void buildText() {
+        text.setLength(0);
+        for (Phase phase : Phase.values()) appendMillis(phase.name(), profiler.getAverage(phase));
+        text.append("draw calls ").append(Math.round(profiler.getAverageRenderCalls())).append('\n');
+
+        Array<ClassStats> classes = profiler.getClasses();
+        for (int i = 0, n = Math.min(maxClasses, classes.size); i < n; i++)
+            appendMillis(classes.get(i).getName(), classes.get(i).getTotal());
+    }
+
+    private void appendMillis(String name, float millis) {
+        // Two decimals without String.format, which is not available on GWT
+        text.append(name).append(' ').append(Math.round(millis * 100) / 100f).append(" ms\n");
+    }
+
+    @Override
+    public void dispose() {
+        font.dispose();
+    }
+}
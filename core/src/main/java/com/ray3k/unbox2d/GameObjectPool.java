@@ -0,0 +1,202 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectSet;
+import dev.lyze.gdxUnBox2d.Box2dPhysicsWorld;
+import dev.lyze.gdxUnBox2d.GameObject;
+import dev.lyze.gdxUnBox2d.UnBox;
+import dev.lyze.gdxUnBox2d.behaviours.BehaviourAdapter;
+import dev.lyze.gdxUnBox2d.behaviours.box2d.Box2dBehaviour;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Recycles game objects built by a {@link Prefab} instead of destroying them. A freed game object is disabled and its
+ * body is deactivated, which removes it from the broadphase without destroying the native body, so spawning it again
+ * creates no garbage and no JNI body churn. A game object freed before its body exists, such as a prewarmed one, is
+ * deactivated by the pool as soon as the body has been created.
+ * <p>
+ * Bodies cannot be changed while the world steps. Free game objects from update or from buffered contact events, not
+ * from inside a contact callback.
+ * <p>
+ * The pool is {@link Snapshotable}, its state is which game objects are free. To include spawning and despawning in a
+ * {@link WorldSnapshot}, {@link #prewarm(int, float, float)} the pool to the most game objects it will need, then track
+ * each of {@link #getGameObjects()} and the pool itself. The size of the state grows with the pool, so a pool that grew
+ * after it was tracked no longer fits the snapshot size. Game objects created after a snapshot are freed when it is
+ * restored.
+ */
+public class GameObjectPool implements Snapshotable {
+    private final UnBox<Box2dPhysicsWorld> unBox;
+    private final Prefab prefab;
+    private final Array<GameObject> free = new Array<>();
+    /** The same game objects as free, so freeing twice is caught without confusing it with a disabled game object. */
+    private final ObjectSet<GameObject> freeSet = new ObjectSet<>();
+    private final ObjectMap<GameObject, Body> bodies = new ObjectMap<>();
+    /** Free game objects whose body did not exist yet when they were freed, so it still has to be deactivated. */
+    private final Array<GameObject> pending = new Array<>();
+    private final Array<GameObject> gameObjects = new Array<>();
+    private final ObjectIntMap<GameObject> indices = new ObjectIntMap<>();
+    private int active;
+
+    public GameObjectPool(UnBox<Box2dPhysicsWorld> unBox, Prefab prefab) {
+        this.unBox = unBox;
+        this.prefab = prefab;
+        new PendingBodies(new GameObject(unBox));
+    }
+
+    /** Spawns a game object at the given position, recycling a freed one if there is any. */
+    public GameObject obtain(float x, float y) {
+        active++;
+        if (free.size == 0) return create(x, y);
+
+        GameObject gameObject = free.pop();
+        freeSet.remove(gameObject);
+        pending.removeValue(gameObject, true);
+        Body body = getBody(gameObject);
+        if (body != null) {
+            body.setTransform(x, y, 0);
+            body.setLinearVelocity(0, 0);
+            body.setAngularVelocity(0);
+            body.setActive(true);
+            body.setAwake(true);
+        }
+        gameObject.setEnabled(true);
+        prefab.reset(gameObject);
+        return gameObject;
+    }
+
+    /** Despawns a game object obtained from this pool. Freeing it twice is ignored. */
+    public void free(GameObject gameObject) {
+        if (!freeSet.add(gameObject)) return;
+        active--;
+
+        Body body = getBody(gameObject);
+        if (body != null) body.setActive(false);
+        else pending.add(gameObject);
+        gameObject.setEnabled(false);
+        free.add(gameObject);
+    }
+
+    /**
+     * Creates game objects up front and frees them right away. Their bodies are created during the next step and
+     * deactivated by the pool as soon as they exist, so they do not fall or collide at the given position.
+     */
+    public void prewarm(int count, float x, float y) {
+        for (int i = 0; i < count; i++) {
+            GameObject gameObject = create(x, y);
+            active++;
+            free(gameObject);
+        }
+    }
+
+    /** @return every game object created by this pool, free or not, in the order they were created. */
+    public Array<GameObject> getGameObjects() {
+        return gameObjects;
+    }
+
+    /** @return the number of spawned game objects that have not been freed. */
+    public int getActive() {
+        return active;
+    }
+
+    /** @return the number of game objects waiting to be reused. */
+    public int getFree() {
+        return free.size;
+    }
+
+    @Override
+    public int getStateSize() {
+        return 12 + 4 * gameObjects.size;
+    }
+
+    /** Writes the number of game objects, the active count and the indices of the free game objects in stack order. */
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        buffer.putInt(gameObjects.size).putInt(active).putInt(free.size);
+        for (int i = 0; i < free.size; i++) buffer.putInt(indices.get(free.get(i), -1));
+        // Pad to a fixed size, so the size only depends on how many game objects there are
+        buffer.position(buffer.position() + 4 * (gameObjects.size - free.size));
+    }
+
+    @Override
+    public void restoreState(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        if (count > gameObjects.size)
+            throw new GdxRuntimeException("The snapshot has " + count + " pooled game objects, the pool has fewer.");
+        active = buffer.getInt();
+        int freeCount = buffer.getInt();
+
+        free.clear();
+        freeSet.clear();
+        pending.clear();
+        // Game objects created after the snapshot did not exist then, they go to the bottom of the stack
+        for (int i = count; i < gameObjects.size; i++) {
+            free.add(gameObjects.get(i));
+            freeSet.add(gameObjects.get(i));
+        }
+        for (int i = 0; i < freeCount; i++) {
+            GameObject gameObject = gameObjects.get(buffer.getInt());
+            free.add(gameObject);
+            freeSet.add(gameObject);
+        }
+        buffer.position(buffer.position() + 4 * (count - freeCount));
+
+        for (int i = 0; i < gameObjects.size; i++) {
+            GameObject gameObject = gameObjects.get(i);
+            boolean spawned = !freeSet.contains(gameObject);
+            Body body = getBody(gameObject);
+            if (body != null && body.isActive() != spawned) body.setActive(spawned);
+            else if (body == null && !spawned) pending.add(gameObject);
+            if (gameObject.isEnabled() != spawned) gameObject.setEnabled(spawned);
+        }
+    }
+
+    private GameObject create(float x, float y) {
+        GameObject gameObject = prefab.create(unBox, x, y);
+        indices.put(gameObject, gameObjects.size);
+        gameObjects.add(gameObject);
+        return gameObject;
+    }
+
+    private Body getBody(GameObject gameObject) {
+        Body body = bodies.get(gameObject);
+        if (body != null) return body;
+
+        Box2dBehaviour box2dBehaviour = gameObject.getBehaviour(Box2dBehaviour.class);
+        if (box2dBehaviour == null || box2dBehaviour.getBody() == null) return null;
+
+        body = box2dBehaviour.getBody();
+        bodies.put(gameObject, body);
+        return body;
+    }
+
+    /** Deactivates the bodies of free game objects once they have been created. */
+    private class PendingBodies extends BehaviourAdapter {
+        PendingBodies(GameObject gameObject) {
+            super(gameObject);
+        }
+
+        @Override
+        public void fixedUpdate() {
+            deactivate();
+        }
+
+        @Override
+        public void update(float delta) {
+            deactivate();
+        }
+
+        private void deactivate() {
+            for (int i = pending.size - 1; i >= 0; i--) {
+                Body body = getBody(pending.get(i));
+                if (body == null) continue;
+                body.setActive(false);
+                pending.removeIndex(i);
+            }
+        }
+    }
+}
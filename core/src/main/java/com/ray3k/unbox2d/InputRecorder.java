@@ -0,0 +1,92 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.ByteArray;
+
+/**
+ * Passes the input of another source through and records the mask of every fixed step. The log is run length
+ * encoded: one byte with the mask and a variable length count of the steps it was held for. Input only changes a few
+ * times per second, so an hour at 60 steps per second takes a few kilobytes. Play it back with {@link InputReplay}.
+ * <p>
+ * The log starts with a header of 12 bytes: the magic number, the format version and the number of steps, each a
+ * little endian int.
+ */
+public class InputRecorder implements InputSource {
+    static final int MAGIC = 0x50524255;
+    static final int VERSION = 1;
+
+    private final InputSource source;
+    private final ByteArray runs = new ByteArray();
+    private int steps;
+    private int mask = -1;
+    private int run;
+    private boolean recording = true;
+
+    public InputRecorder(InputSource source) {
+        this.source = source;
+    }
+
+    @Override
+    public int poll() {
+        int buttons = source.poll();
+        if (!recording) return buttons;
+        if (buttons != mask) {
+            flushRun();
+            mask = buttons;
+        }
+        run++;
+        steps++;
+        return buttons;
+    }
+
+    public boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * Stops recording, the input is still passed through. Stop when the world is changed in a way the log cannot
+     * replay, such as restoring a {@link WorldSnapshot}, so the log keeps the part of the session that replays exactly.
+     */
+    public void stopRecording() {
+        recording = false;
+    }
+
+    /** @return the number of steps recorded. */
+    public int getSteps() {
+        return steps;
+    }
+
+    /** @return the log of all steps recorded so far. Recording continues afterwards. */
+    public byte[] toBytes() {
+        ByteArray bytes = new ByteArray(12 + runs.size + 6);
+        writeInt(bytes, MAGIC);
+        writeInt(bytes, VERSION);
+        writeInt(bytes, steps);
+        bytes.addAll(runs);
+        if (run > 0) writeRun(bytes, mask, run);
+        return bytes.toArray();
+    }
+
+    public void save(FileHandle file) {
+        file.writeBytes(toBytes(), false);
+    }
+
+    private void flushRun() {
+        if (run > 0) writeRun(runs, mask, run);
+        run = 0;
+    }
+
+    private static void writeRun(ByteArray bytes, int mask, int run) {
+        bytes.add((byte) mask);
+        // Seven bits per byte, the high bit marks that another byte follows
+        while (run >= 0x80) {
+            bytes.add((byte) (run & 0x7F | 0x80));
+            run >>>= 7;
+        }
+        bytes.add((byte) run);
+    }
+
+    private static void writeInt(ByteArray bytes, int value) {
+        bytes.add((byte) value, (byte) (value >> 8), (byte) (value >> 16), (byte) (value >> 24));
+    }
+}
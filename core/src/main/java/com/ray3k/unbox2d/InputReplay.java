@@ -0,0 +1,72 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * Plays back a log written by {@link InputRecorder}, one mask per fixed step. After the last recorded step it returns
+ * no buttons held.
+ */
+public class InputReplay implements InputSource {
+    private final byte[] bytes;
+    private final int steps;
+    private int position = 12;
+    private int mask;
+    private int run;
+    private int step;
+
+    public InputReplay(FileHandle file) {
+        this(file.readBytes());
+    }
+
+    public InputReplay(byte[] bytes) {
+        if (bytes.length < 12 || readInt(bytes, 0) != InputRecorder.MAGIC)
+            throw new GdxRuntimeException("Not an input log.");
+        if (readInt(bytes, 4) != InputRecorder.VERSION)
+            throw new GdxRuntimeException("Unsupported input log version: " + readInt(bytes, 4));
+        this.bytes = bytes;
+        steps = readInt(bytes, 8);
+    }
+
+    @Override
+    public int poll() {
+        if (step == steps) return 0;
+        step++;
+
+        if (run == 0) readRun();
+        run--;
+        return mask;
+    }
+
+    /** @return the number of steps in the log. */
+    public int getSteps() {
+        return steps;
+    }
+
+    /** @return the number of steps played so far. */
+    public int getStep() {
+        return step;
+    }
+
+    public boolean isFinished() {
+        return step == steps;
+    }
+
+    private void readRun() {
+        if (position >= bytes.length) throw new GdxRuntimeException("The input log is truncated.");
+        mask = bytes[position++];
+        run = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = bytes[position++];
+            run |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        return bytes[offset] & 0xFF | (bytes[offset + 1] & 0xFF) << 8 | (bytes[offset + 2] & 0xFF) << 16
+                | (bytes[offset + 3] & 0xFF) << 24;
+    }
+}
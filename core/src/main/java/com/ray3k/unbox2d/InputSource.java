@@ -0,0 +1,16 @@
+package com.ray3k.unbox2d;
+
+/**
+ * The input of the player as a bit mask of the buttons held. Behaviours poll it once per fixed step, so the same
+ * sequence of masks produces the same simulation at any frame rate, as long as everything else that changes the world
+ * also happens in fixed steps. Contacts are dispatched per step by {@link ContactEventBuffer} for this reason.
+ */
+public interface InputSource {
+    int UP = 1;
+    int DOWN = 1 << 1;
+    int LEFT = 1 << 2;
+    int RIGHT = 1 << 3;
+
+    /** @return the buttons held during the current fixed step. Called exactly once per step. */
+    int poll();
+}
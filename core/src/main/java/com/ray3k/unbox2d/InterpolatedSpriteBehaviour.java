@@ -0,0 +1,102 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import dev.lyze.gdxUnBox2d.GameObject;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A sprite behaviour that keeps the body transform of the previous and the current fixed step and blends between them
+ * when rendering. This lets the physics run at a low rate while sprites still move smoothly on fast displays.
+ */
+public class InterpolatedSpriteBehaviour extends CachedSpriteBehaviour {
+    private final FixedStepClock clock;
+    private float previousX, previousY, previousAngle;
+    private float currentX, currentY, currentAngle;
+    private boolean teleported;
+
+    public InterpolatedSpriteBehaviour(GameObject gameObject, float offsetX, float offsetY, Sprite sprite, FixedStepClock clock) {
+        super(gameObject, offsetX, offsetY, sprite);
+        this.clock = clock;
+    }
+
+    public InterpolatedSpriteBehaviour(GameObject gameObject, float offsetX, float offsetY, Sprite sprite, float renderOrder, FixedStepClock clock) {
+        super(gameObject, offsetX, offsetY, sprite, renderOrder);
+        this.clock = clock;
+    }
+
+    @Override
+    public void start() {
+        super.start();
+        if (RenderMode.isHeadless()) return;
+        readTransform();
+        previousX = currentX;
+        previousY = currentY;
+        previousAngle = currentAngle;
+    }
+
+    @Override
+    public void fixedUpdate() {
+        if (RenderMode.isHeadless()) return;
+        previousX = currentX;
+        previousY = currentY;
+        previousAngle = currentAngle;
+        if (needsSync()) {
+            readTransform();
+            markSynced(getBody());
+        }
+        // Jump to a restored transform instead of sliding there
+        if (teleported) {
+            previousX = currentX;
+            previousY = currentY;
+            previousAngle = currentAngle;
+            teleported = false;
+        }
+    }
+
+    @Override
+    public void render(Batch batch) {
+        if (RenderMode.isHeadless()) return;
+        float alpha = clock.getAlpha();
+        float x = previousX + (currentX - previousX) * alpha;
+        float y = previousY + (currentY - previousY) * alpha;
+        float angle = MathUtils.lerpAngle(previousAngle, currentAngle, alpha);
+
+        sprite.setPosition(x + offsetX, y + offsetY);
+        sprite.setRotation(angle * MathUtils.radiansToDegrees);
+        sprite.draw(batch);
+    }
+
+    @Override
+    public void restoreState(ByteBuffer buffer) {
+        super.restoreState(buffer);
+        teleported = true;
+    }
+
+    private void readTransform() {
+        int slot = getSnapshotSlot();
+        if (slot != -1) {
+            TransformSnapshot snapshot = getTransformSnapshot();
+            currentX = snapshot.getX(slot);
+            currentY = snapshot.getY(slot);
+            currentAngle = snapshot.getAngle(slot);
+            return;
+        }
+
+        Body body = getBody();
+        if (body != null) {
+            Vector2 position = body.getPosition();
+            currentX = position.x;
+            currentY = position.y;
+            currentAngle = body.getAngle();
+        } else {
+            currentX = 0;
+            currentY = 0;
+            currentAngle = 0;
+        }
+    }
+}
@@ -1,36 +1,45 @@
 package com.ray3k.unbox2d;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input.Keys;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import dev.lyze.gdxUnBox2d.GameObject;
 import dev.lyze.gdxUnBox2d.behaviours.BehaviourAdapter;
 import dev.lyze.gdxUnBox2d.behaviours.box2d.Box2dBehaviour;
 
+/**
+ * Moves the body with the arrow keys or any other {@link InputSource}. The input is polled once per fixed step
+ * instead of once per frame, so a recorded session replays to the same result.
+ */
 public class KeyboardImprovedBehaviour extends BehaviourAdapter {
     private final Vector2 velocity = new Vector2();
+    private final InputSource input;
 
     public KeyboardImprovedBehaviour(GameObject gameObject) {
-        super(gameObject);
+        this(new KeyboardInputSource(), gameObject);
     }
 
-    @Override
-    public void fixedUpdate() {
-        getGameObject().getBehaviour(Box2dBehaviour.class).getBody().setLinearVelocity(velocity);
+    public KeyboardImprovedBehaviour(InputSource input, GameObject gameObject) {
+        super(gameObject);
+        this.input = input;
     }
 
     @Override
-    public void update(float delta) {
+    public void fixedUpdate() {
         float maxSpeed = 5f;
         velocity.set(0, 0);
 
-        if (Gdx.input.isKeyPressed(Keys.UP)) velocity.y += maxSpeed;
-        if (Gdx.input.isKeyPressed(Keys.DOWN)) velocity.y -= maxSpeed;
-        if (Gdx.input.isKeyPressed(Keys.RIGHT)) velocity.x += maxSpeed;
-        if (Gdx.input.isKeyPressed(Keys.LEFT)) velocity.x -= maxSpeed;
+        int buttons = input.poll();
+        if ((buttons & InputSource.UP) != 0) velocity.y += maxSpeed;
+        if ((buttons & InputSource.DOWN) != 0) velocity.y -= maxSpeed;
+        if ((buttons & InputSource.RIGHT) != 0) velocity.x += maxSpeed;
+        if ((buttons & InputSource.LEFT) != 0) velocity.x -= maxSpeed;
 
         velocity.setLength(MathUtils.clamp(velocity.len(), 0, maxSpeed));
-        System.out.println("velocity.len() = " + velocity.len());
+        getGameObject().getBehaviour(Box2dBehaviour.class).getBody().setLinearVelocity(velocity);
+    }
+
+    @Override
+    public void update(float delta) {
+        if (Log.isDebugEnabled()) Log.debug("KeyboardImprovedBehaviour", "velocity.len() = ", velocity.len());
     }
 }
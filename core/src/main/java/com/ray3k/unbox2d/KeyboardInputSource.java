@@ -0,0 +1,17 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input.Keys;
+
+/** Reads the arrow keys. */
+public class KeyboardInputSource implements InputSource {
+    @Override
+    public int poll() {
+        int buttons = 0;
+        if (Gdx.input.isKeyPressed(Keys.UP)) buttons |= UP;
+        if (Gdx.input.isKeyPressed(Keys.DOWN)) buttons |= DOWN;
+        if (Gdx.input.isKeyPressed(Keys.LEFT)) buttons |= LEFT;
+        if (Gdx.input.isKeyPressed(Keys.RIGHT)) buttons |= RIGHT;
+        return buttons;
+    }
+}
@@ -0,0 +1,59 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Loads the texture atlases of a game through an {@link AssetManager} a slice of time per frame, so the window keeps
+ * rendering while large atlases are decoded. Once everything is loaded the regions of all atlases are collected in an
+ * {@link AtlasRegionCache}, then the world can be built from it.
+ */
+public class LoadingPipeline implements Disposable {
+    private final AssetManager assetManager = new AssetManager();
+    private final Array<String> atlases = new Array<>();
+    private AtlasRegionCache regions;
+
+    public LoadingPipeline(String... atlasFileNames) {
+        for (String fileName : atlasFileNames) {
+            assetManager.load(fileName, TextureAtlas.class);
+            atlases.add(fileName);
+        }
+    }
+
+    /**
+     * Continues loading for about the given time.
+     * @return true in the frame loading finishes, the regions are available from then on.
+     */
+    public boolean update(int millis) {
+        if (regions != null || !assetManager.update(millis)) return false;
+
+        regions = new AtlasRegionCache();
+        for (int i = 0; i < atlases.size; i++) regions.addAll(assetManager.get(atlases.get(i), TextureAtlas.class));
+        return true;
+    }
+
+    public boolean isLoaded() {
+        return regions != null;
+    }
+
+    /** @return the loading progress between 0 and 1. */
+    public float getProgress() {
+        return assetManager.getProgress();
+    }
+
+    /** @return the regions of all atlases or null while loading. */
+    public AtlasRegionCache getRegions() {
+        return regions;
+    }
+
+    public AssetManager getAssetManager() {
+        return assetManager;
+    }
+
+    @Override
+    public void dispose() {
+        assetManager.dispose();
+    }
+}
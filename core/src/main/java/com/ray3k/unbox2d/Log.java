@@ -0,0 +1,98 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.Application;
+
+/**
+ * A small logger for behaviours that run every step. The level is checked before anything is recorded and messages
+ * are passed as a constant plus arguments, so a disabled call costs a comparison and an enabled one builds no string
+ * on the calling thread. Guard calls with {@link #isDebugEnabled()} when computing an argument is expensive.
+ * <p>
+ * The levels are the ones of {@link Application}. Records go to a {@link ConsoleAppender} unless another appender is
+ * set, use an {@link AsyncRingBufferAppender} to keep slow consoles off the game thread.
+ */
+public final class Log {
+    private static final LogRecord record = new LogRecord();
+    private static int level = Application.LOG_INFO;
+    private static LogAppender appender = new ConsoleAppender();
+
+    private Log() {
+    }
+
+    public static int getLevel() {
+        return level;
+    }
+
+    /** @param level one of {@link Application#LOG_NONE}, LOG_ERROR, LOG_INFO or LOG_DEBUG. */
+    public static void setLevel(int level) {
+        Log.level = level;
+    }
+
+    public static boolean isDebugEnabled() {
+        return level >= Application.LOG_DEBUG;
+    }
+
+    public static boolean isInfoEnabled() {
+        return level >= Application.LOG_INFO;
+    }
+
+    public static LogAppender getAppender() {
+        return appender;
+    }
+
+    public static void setAppender(LogAppender appender) {
+        Log.appender = appender;
+    }
+
+    public static void debug(String tag, String message) {
+        if (level >= Application.LOG_DEBUG) log(Application.LOG_DEBUG, tag, message, null, 0, 0, 0);
+    }
+
+    public static void debug(String tag, String message, Object argument) {
+        if (level >= Application.LOG_DEBUG) log(Application.LOG_DEBUG, tag, message, argument, 0, 0, 0);
+    }
+
+    public static void debug(String tag, String message, float value) {
+        if (level >= Application.LOG_DEBUG) log(Application.LOG_DEBUG, tag, message, null, value, 0, 1);
+    }
+
+    public static void debug(String tag, String message, float value1, float value2) {
+        if (level >= Application.LOG_DEBUG) log(Application.LOG_DEBUG, tag, message, null, value1, value2, 2);
+    }
+
+    public static void info(String tag, String message) {
+        if (level >= Application.LOG_INFO) log(Application.LOG_INFO, tag, message, null, 0, 0, 0);
+    }
+
+    public static void info(String tag, String message, Object argument) {
+        if (level >= Application.LOG_INFO) log(Application.LOG_INFO, tag, message, argument, 0, 0, 0);
+    }
+
+    public static void info(String tag, String message, float value) {
+        if (level >= Application.LOG_INFO) log(Application.LOG_INFO, tag, message, null, value, 0, 1);
+    }
+
+    public static void info(String tag, String message, float value1, float value2) {
+        if (level >= Application.LOG_INFO) log(Application.LOG_INFO, tag, message, null, value1, value2, 2);
+    }
+
+    public static void error(String tag, String message) {
+        if (level >= Application.LOG_ERROR) log(Application.LOG_ERROR, tag, message, null, 0, 0, 0);
+    }
+
+    public static void error(String tag, String message, Object argument) {
+        if (level >= Application.LOG_ERROR) log(Application.LOG_ERROR, tag, message, argument, 0, 0, 0);
+    }
+
+    private static synchronized void log(int level, String tag, String message, Object argument, float value1,
+                                         float value2, int valueCount) {
+        record.level = level;
+        record.tag = tag;
+        record.message = message;
+        record.argument = argument;
+        record.value1 = value1;
+        record.value2 = value2;
+        record.valueCount = valueCount;
+        record.timeMillis = System.currentTimeMillis();
+        appender.append(record);
+    }
+}
@@ -0,0 +1,7 @@
+package com.ray3k.unbox2d;
+
+/** Writes log records somewhere. */
+public interface LogAppender {
+    /** The record is reused after this returns, appenders that keep it have to copy it with {@link LogRecord#set}. */
+    void append(LogRecord record);
+}
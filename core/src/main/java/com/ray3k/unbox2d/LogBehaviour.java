@@ -0,0 +1,55 @@
+package com.ray3k.unbox2d;
+
+import dev.lyze.gdxUnBox2d.GameObject;
+import dev.lyze.gdxUnBox2d.behaviours.BehaviourAdapter;
+
+/**
+ * Logs the lifecycle events of its game object through {@link Log}, like SoutBehaviour does with the libGDX logger.
+ * Events that happen once are logged at info level. The per step events are only logged when enabled and at debug
+ * level, so they cost a level check when debug logging is off.
+ */
+public class LogBehaviour extends BehaviourAdapter {
+    private final String name;
+    private final boolean logUpdates;
+
+    public LogBehaviour(String name, boolean logUpdates, GameObject gameObject) {
+        super(gameObject);
+        this.name = name;
+        this.logUpdates = logUpdates;
+    }
+
+    @Override
+    public void awake() {
+        Log.info(name, "awake");
+    }
+
+    @Override
+    public void start() {
+        Log.info(name, "start");
+    }
+
+    @Override
+    public void fixedUpdate() {
+        if (logUpdates) Log.debug(name, "fixedUpdate");
+    }
+
+    @Override
+    public void update(float delta) {
+        if (logUpdates) Log.debug(name, "update ", delta);
+    }
+
+    @Override
+    public void onEnable() {
+        Log.info(name, "onEnable");
+    }
+
+    @Override
+    public void onDisable() {
+        Log.info(name, "onDisable");
+    }
+
+    @Override
+    public void onDestroy() {
+        Log.info(name, "onDestroy");
+    }
+}
@@ -0,0 +1,38 @@
+package com.ray3k.unbox2d;
+
+/**
+ * One log entry. Arguments are kept as they were passed and only formatted when an appender writes the entry, so
+ * logging does not build strings on the game thread. Floats are stored unboxed. An object argument is formatted later
+ * and possibly on another thread, so only pass immutable objects.
+ */
+public class LogRecord {
+    public int level;
+    public String tag;
+    public String message;
+    public Object argument;
+    public float value1;
+    public float value2;
+    /** The number of float values that were passed, between 0 and 2. */
+    public int valueCount;
+    public long timeMillis;
+
+    public void set(LogRecord record) {
+        level = record.level;
+        tag = record.tag;
+        message = record.message;
+        argument = record.argument;
+        value1 = record.value1;
+        value2 = record.value2;
+        valueCount = record.valueCount;
+        timeMillis = record.timeMillis;
+    }
+
+    /** Appends the entry as {@code [tag] message argument value1, value2}. */
+    public StringBuilder format(StringBuilder builder) {
+        builder.append('[').append(tag).append("] ").append(message);
+        if (argument != null) builder.append(argument);
+        if (valueCount > 0) builder.append(value1);
+        if (valueCount > 1) builder.append(", ").append(value2);
+        return builder;
+    }
+}
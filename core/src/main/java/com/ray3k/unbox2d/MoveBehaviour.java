@@ -22,7 +22,9 @@ public class MoveBehaviour extends BehaviourAdapter {
 
     @Override
     public void update(float delta) {
+        if (!Log.isDebugEnabled()) return;
+
         Vector2 position = getGameObject().getBehaviour(Box2dBehaviour.class).getBody().getPosition();
-        System.out.println("Position: " + position);
+        Log.debug("MoveBehaviour", "Position: ", position.x, position.y);
     }
 }
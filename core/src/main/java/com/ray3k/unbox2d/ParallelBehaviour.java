@@ -0,0 +1,11 @@
+package com.ray3k.unbox2d;
+
+/**
+ * A behaviour whose fixed step logic can run on a worker thread of a {@link ParallelPhase}. The implementation may
+ * only read its own state and data that does not change during the phase, such as a {@link TransformSnapshot}. It must
+ * not call into Box2D or touch other behaviours. Changes to bodies are recorded into the command buffer and applied on
+ * the game thread after all behaviours of the phase ran.
+ */
+public interface ParallelBehaviour {
+    void parallelFixedUpdate(BodyCommandBuffer commands);
+}
@@ -0,0 +1,44 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import dev.lyze.gdxUnBox2d.GameObject;
+import dev.lyze.gdxUnBox2d.behaviours.BehaviourAdapter;
+import dev.lyze.gdxUnBox2d.behaviours.box2d.Box2dBehaviour;
+
+/**
+ * Pushes the body sideways every fixed step like {@link MoveBehaviour}, but runs in a {@link ParallelPhase}. The
+ * position is read from a {@link TransformSnapshot} and the impulse is queued instead of applied directly.
+ */
+public class ParallelMoveBehaviour extends BehaviourAdapter implements ParallelBehaviour {
+    private final boolean moveToRight;
+    private final ParallelPhase phase;
+    private final TransformSnapshot snapshot;
+    private Body body;
+    private int slot = -1;
+
+    public ParallelMoveBehaviour(boolean moveToRight, ParallelPhase phase, TransformSnapshot snapshot, GameObject gameObject) {
+        super(gameObject);
+        this.moveToRight = moveToRight;
+        this.phase = phase;
+        this.snapshot = snapshot;
+    }
+
+    @Override
+    public void start() {
+        body = getGameObject().getBehaviour(Box2dBehaviour.class).getBody();
+        slot = snapshot.register(body);
+        phase.add(this);
+    }
+
+    @Override
+    public void onDestroy() {
+        phase.remove(this);
+        if (slot != -1) snapshot.unregister(slot);
+        slot = -1;
+    }
+
+    @Override
+    public void parallelFixedUpdate(BodyCommandBuffer commands) {
+        commands.applyLinearImpulse(body, 0.01f * (moveToRight ? -1 : 1), 0, snapshot.getX(slot), snapshot.getY(slot));
+    }
+}
@@ -0,0 +1,91 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.utils.Array;
+import dev.lyze.gdxUnBox2d.GameObject;
+import dev.lyze.gdxUnBox2d.behaviours.BehaviourAdapter;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs the fixed step of registered {@link ParallelBehaviour}s across a fork join pool. The behaviours are split into
+ * chunks, each chunk records into its own {@link BodyCommandBuffer}, and the buffers are applied on the game thread in
+ * chunk order once all chunks are done. The result does not depend on how the chunks were scheduled.
+ * <p>
+ * Everything happens in {@link #fixedUpdate()}, before UnBox steps the world. Create the game object of the phase
+ * after the one of the {@link TransformSnapshot} the behaviours read from, so the snapshot is current. Not available
+ * on GWT.
+ */
+public class ParallelPhase extends BehaviourAdapter {
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final Array<ParallelBehaviour> behaviours = new Array<>();
+    private final Array<Chunk> chunks = new Array<>();
+    private final RootTask rootTask = new RootTask();
+
+    public ParallelPhase(GameObject gameObject) {
+        this(ForkJoinPool.commonPool(), 256, gameObject);
+    }
+
+    /** @param chunkSize the number of behaviours per task. Fewer behaviours than this run on the game thread. */
+    public ParallelPhase(ForkJoinPool pool, int chunkSize, GameObject gameObject) {
+        super(gameObject);
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    public void add(ParallelBehaviour behaviour) {
+        behaviours.add(behaviour);
+    }
+
+    public void remove(ParallelBehaviour behaviour) {
+        behaviours.removeValue(behaviour, true);
+    }
+
+    @Override
+    public void fixedUpdate() {
+        int chunkCount = (behaviours.size + chunkSize - 1) / chunkSize;
+        while (chunks.size < chunkCount) chunks.add(new Chunk());
+        for (int i = 0; i < chunkCount; i++) {
+            Chunk chunk = chunks.get(i);
+            chunk.from = i * chunkSize;
+            chunk.to = Math.min(behaviours.size, chunk.from + chunkSize);
+            chunk.reinitialize();
+        }
+
+        if (chunkCount == 1) chunks.first().compute();
+        else if (chunkCount > 1) {
+            rootTask.chunkCount = chunkCount;
+            rootTask.reinitialize();
+            pool.invoke(rootTask);
+        }
+
+        for (int i = 0; i < chunkCount; i++) chunks.get(i).commands.apply();
+    }
+
+    /** @return the number of registered behaviours. */
+    public int size() {
+        return behaviours.size;
+    }
+
+    private class Chunk extends RecursiveAction {
+        private final BodyCommandBuffer commands = new BodyCommandBuffer();
+        private int from, to;
+
+        @Override
+        protected void compute() {
+            for (int i = from; i < to; i++) behaviours.get(i).parallelFixedUpdate(commands);
+        }
+    }
+
+    private class RootTask extends RecursiveAction {
+        private int chunkCount;
+
+        @Override
+        protected void compute() {
+            for (int i = 1; i < chunkCount; i++) chunks.get(i).fork();
+            chunks.first().compute();
+            for (int i = chunkCount - 1; i > 0; i--) chunks.get(i).join();
+        }
+    }
+}
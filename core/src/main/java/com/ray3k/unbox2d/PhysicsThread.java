@@ -0,0 +1,131 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import dev.lyze.gdxUnBox2d.Box2dPhysicsWorld;
+import dev.lyze.gdxUnBox2d.UnBox;
+
+/**
+ * Runs {@link UnBox#preRender(float)} and {@link UnBox#postRender()} on a dedicated thread, so the world steps while
+ * the game thread draws the previous step. The render method of the game becomes:
+ * <pre>
+ * pendingDelta += Gdx.graphics.getDeltaTime();
+ * if (physicsThread.pollStep()) {
+ *     snapshot.publish();
+ *     physicsThread.startStep(pendingDelta);
+ *     pendingDelta = 0;
+ * }
+ * renderLayers.render(batch);
+ * </pre>
+ * A frame never waits for the physics thread: while a step is still running, the last published step is drawn again
+ * and its frame time is added to the next step. Calling {@link #awaitStep()} instead of polling runs the two threads in
+ * lockstep, which keeps every frame one step apart but lets a slow step stall rendering.
+ * <p>
+ * While a step runs, the game thread may only read the published arrays of the {@link TransformSnapshot}. Sprites have
+ * to be {@link SnapshotSpriteBehaviour}s drawn through {@link RenderLayers} with deferred changes, and neither
+ * {@link UnBox#render} nor a Box2D debug renderer may be used. All behaviour callbacks run on the physics thread, so
+ * a {@link BehaviourSampler} has to sample {@link #getThread()} to time them. Their time counts towards the frame that
+ * ends after them. Not available on GWT.
+ */
+public class PhysicsThread implements Disposable {
+    private final UnBox<Box2dPhysicsWorld> unBox;
+    private final Thread thread;
+    private float delta;
+    private boolean stepping;
+    private boolean running = true;
+    private RuntimeException failure;
+
+    public PhysicsThread(UnBox<Box2dPhysicsWorld> unBox) {
+        this.unBox = unBox;
+        thread = new Thread(this::run, "Physics");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /** Starts a step of the given frame time. The previous step must have been awaited. */
+    public synchronized void startStep(float delta) {
+        if (stepping) throw new IllegalStateException("The previous step has not been awaited.");
+        this.delta = delta;
+        stepping = true;
+        notifyAll();
+    }
+
+    /** Blocks until the running step is done. Returns immediately if no step is running. */
+    public synchronized void awaitStep() {
+        while (stepping) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+
+        rethrowFailure();
+    }
+
+    /** @return true if no step is running, so the next one may be started. Never blocks. */
+    public synchronized boolean pollStep() {
+        if (stepping) return false;
+        rethrowFailure();
+        return true;
+    }
+
+    /** @return the thread the steps and all behaviour callbacks run on. */
+    public Thread getThread() {
+        return thread;
+    }
+
+    /** Waits for the running step and stops the thread. */
+    @Override
+    public void dispose() {
+        synchronized (this) {
+            running = false;
+            notifyAll();
+        }
+
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void rethrowFailure() {
+        if (failure == null) return;
+        RuntimeException exception = failure;
+        failure = null;
+        throw new GdxRuntimeException("The physics step failed.", exception);
+    }
+
+    private void run() {
+        while (true) {
+            float delta;
+            synchronized (this) {
+                while (!stepping && running) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (!stepping) return;
+                delta = this.delta;
+            }
+
+            try {
+                unBox.preRender(delta);
+                unBox.postRender();
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    failure = e;
+                }
+            }
+
+            synchronized (this) {
+                stepping = false;
+                notifyAll();
+            }
+        }
+    }
+}
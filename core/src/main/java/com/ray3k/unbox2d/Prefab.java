@@ -0,0 +1,18 @@
+package com.ray3k.unbox2d;
+
+import dev.lyze.gdxUnBox2d.Box2dPhysicsWorld;
+import dev.lyze.gdxUnBox2d.GameObject;
+import dev.lyze.gdxUnBox2d.UnBox;
+
+/** Builds one kind of game object for a {@link GameObjectPool}. */
+public interface Prefab {
+    /** Creates a new game object with its behaviours and a body at the given position. */
+    GameObject create(UnBox<Box2dPhysicsWorld> unBox, float x, float y);
+
+    /**
+     * Restores the state of a recycled game object before it is spawned again. The pool has already moved the body and
+     * cleared its velocity. Behaviours are not recreated, so reset anything they changed during their last life.
+     */
+    default void reset(GameObject gameObject) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * Looks up texture regions by name. Sample worlds take one of these instead of a {@link
+ * com.badlogic.gdx.graphics.g2d.TextureAtlas} so they can be built without a GL context.
+ */
+public interface RegionProvider {
+    TextureRegion findRegion(String name);
+}
@@ -0,0 +1,422 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectMap;
+import dev.lyze.gdxUnBox2d.Behaviour;
+
+/**
+ * Renders behaviours in buckets keyed by their render order. A behaviour is placed into its bucket once when it is
+ * added and only moves when its order is changed through {@link #setRenderOrder(Behaviour, float)}, so rendering does
+ * not sort or scan all behaviours every frame. Within a bucket behaviours keep the order they were added in.
+ * <p>
+ * When grouping by texture is enabled, each render order is further split by the texture of {@link Textured}
+ * behaviours. Every texture of a layer is then bound once, which keeps the number of batch flushes down when sprites
+ * from several atlases share a layer. Sprites of the same layer may overlap in a different order than they were added
+ * in.
+ * <p>
+ * Sprites that never move can be added with {@link #addStatic(Sprite, float)}. They are baked into a {@link SpriteCache}
+ * the first time the layers are rendered and drawn with one call per layer, below the behaviours of that layer. They
+ * need no game object or behaviour, so they cost nothing during the fixed steps and updates. Changing them rebuilds the
+ * cache of all layers. Sprites that come and go together, such as the chunks of a streamed level, are better added as
+ * a {@link StaticGroup}, which gets a cache of its own and is drawn with one call per layer it has sprites in.
+ * <p>
+ * With {@link #setDeferChanges(boolean)} all changes are queued and applied at the start of the next render, so
+ * behaviours can be added and removed from another thread, such as a {@link PhysicsThread}, while the layers render.
+ * <p>
+ * Call {@link #render(Batch)} instead of {@link dev.lyze.gdxUnBox2d.UnBox#render(Batch)}, otherwise the registered
+ * behaviours are drawn twice.
+ */
+public class RenderLayers implements Disposable {
+    private static final int ADD = 0, REMOVE = 1, REFRESH = 2, ADD_STATIC = 3, REMOVE_STATIC = 4,
+            ADD_GROUP = 5, REMOVE_GROUP = 6;
+    private final boolean groupByTexture;
+    /** Layers sorted by ascending render order. There are usually only a handful. */
+    private final Array<Layer> layers = new Array<>();
+    private final ObjectMap<Behaviour, Bucket> bucketByBehaviour = new ObjectMap<>();
+    private int textureSwitches;
+    private int renderCalls;
+    private SpriteCache spriteCache;
+    private int staticSpriteCount;
+    private boolean staticDirty;
+    private final Array<StaticGroup> unbakedGroups = new Array<>();
+    private volatile boolean deferChanges;
+    private final IntArray pendingChanges = new IntArray();
+    private final Array<Object> pendingTargets = new Array<>();
+    private final FloatArray pendingOrders = new FloatArray();
+
+    public RenderLayers() {
+        this(false);
+    }
+
+    public RenderLayers(boolean groupByTexture) {
+        this.groupByTexture = groupByTexture;
+    }
+
+    public void add(Behaviour behaviour) {
+        if (!defer(ADD, behaviour, 0)) addNow(behaviour);
+    }
+
+    private void addNow(Behaviour behaviour) {
+        if (bucketByBehaviour.containsKey(behaviour)) return;
+
+        Bucket bucket = obtainLayer(behaviour.getRenderOrder()).obtainBucket(getTexture(behaviour));
+        bucket.behaviours.add(behaviour);
+        bucketByBehaviour.put(behaviour, bucket);
+    }
+
+    public void remove(Behaviour behaviour) {
+        if (!defer(REMOVE, behaviour, 0)) removeNow(behaviour);
+    }
+
+    private void removeNow(Behaviour behaviour) {
+        Bucket bucket = bucketByBehaviour.remove(behaviour);
+        if (bucket != null) bucket.behaviours.removeValue(behaviour, true);
+    }
+
+    /**
+     * Bakes the sprite into the static geometry of the layer with the given render order. The sprite is copied when the
+     * cache is built, later changes to it are ignored. Adding a sprite after the first render rebuilds the cache.
+     */
+    public void addStatic(Sprite sprite, float renderOrder) {
+        if (!defer(ADD_STATIC, sprite, renderOrder)) addStaticNow(sprite, renderOrder);
+    }
+
+    private void addStaticNow(Sprite sprite, float renderOrder) {
+        obtainLayer(renderOrder).staticSprites.add(sprite);
+        staticSpriteCount++;
+        staticDirty = true;
+    }
+
+    /** Removes a sprite added with {@link #addStatic(Sprite, float)}. The cache is rebuilt on the next render. */
+    public void removeStatic(Sprite sprite, float renderOrder) {
+        if (!defer(REMOVE_STATIC, sprite, renderOrder)) removeStaticNow(sprite, renderOrder);
+    }
+
+    private void removeStaticNow(Sprite sprite, float renderOrder) {
+        for (int i = 0, n = layers.size; i < n; i++) {
+            Layer layer = layers.get(i);
+            if (layer.order != renderOrder) continue;
+
+            if (layer.staticSprites.removeValue(sprite, true)) {
+                staticSpriteCount--;
+                staticDirty = true;
+            }
+            return;
+        }
+    }
+
+    /**
+     * Bakes the sprites of the group into a cache of its own on the next render. The other static sprites and groups
+     * are not rebuilt.
+     */
+    public void addStatic(StaticGroup group) {
+        if (!defer(ADD_GROUP, group, 0)) addGroupNow(group);
+    }
+
+    private void addGroupNow(StaticGroup group) {
+        if (group.spriteCache != null || unbakedGroups.contains(group, true)) return;
+
+        // Create the layers now, so baking does not have to insert any
+        for (int i = 0, n = group.renderOrders.size; i < n; i++) obtainLayer(group.renderOrders.get(i));
+        unbakedGroups.add(group);
+    }
+
+    /** Removes a group added with {@link #addStatic(StaticGroup)} and disposes its cache. */
+    public void removeStatic(StaticGroup group) {
+        if (!defer(REMOVE_GROUP, group, 0)) removeGroupNow(group);
+    }
+
+    private void removeGroupNow(StaticGroup group) {
+        if (unbakedGroups.removeValue(group, true) || group.spriteCache == null) return;
+
+        for (int i = 0, n = layers.size; i < n; i++) {
+            Layer layer = layers.get(i);
+            int index = layer.groups.indexOf(group, true);
+            if (index == -1) continue;
+
+            layer.groups.removeIndex(index);
+            layer.groupCacheIds.removeIndex(index);
+        }
+        group.spriteCache.dispose();
+        group.spriteCache = null;
+    }
+
+    /** Changes the render order of the behaviour and moves it to the matching layer if it is registered. */
+    public void setRenderOrder(Behaviour behaviour, float renderOrder) {
+        behaviour.setRenderOrder(renderOrder);
+        refresh(behaviour);
+    }
+
+    /** Moves a registered behaviour to the bucket matching its current render order and texture. */
+    public void refresh(Behaviour behaviour) {
+        if (!defer(REFRESH, behaviour, 0)) refreshNow(behaviour);
+    }
+
+    private void refreshNow(Behaviour behaviour) {
+        Bucket bucket = bucketByBehaviour.get(behaviour);
+        if (bucket == null) return;
+        if (bucket.layer.order == behaviour.getRenderOrder() && bucket.texture == getTexture(behaviour)) return;
+
+        removeNow(behaviour);
+        addNow(behaviour);
+    }
+
+    public boolean isDeferChanges() {
+        return deferChanges;
+    }
+
+    /** Queues changes until the next render instead of applying them immediately. Changes may then come from any thread. */
+    public void setDeferChanges(boolean deferChanges) {
+        // The flag flips under the lock, so no change can be queued after the queue was applied for the last time
+        synchronized (pendingChanges) {
+            this.deferChanges = deferChanges;
+        }
+        if (!deferChanges) applyChanges();
+    }
+
+    private boolean defer(int change, Object target, float renderOrder) {
+        if (!deferChanges) return false;
+
+        synchronized (pendingChanges) {
+            if (!deferChanges) return false;
+            pendingChanges.add(change);
+            pendingTargets.add(target);
+            pendingOrders.add(renderOrder);
+        }
+        return true;
+    }
+
+    private void applyChanges() {
+        synchronized (pendingChanges) {
+            for (int i = 0, n = pendingChanges.size; i < n; i++) {
+                Object target = pendingTargets.get(i);
+                switch (pendingChanges.get(i)) {
+                    case ADD: addNow((Behaviour) target); break;
+                    case REMOVE: removeNow((Behaviour) target); break;
+                    case REFRESH: refreshNow((Behaviour) target); break;
+                    case ADD_STATIC: addStaticNow((Sprite) target, pendingOrders.get(i)); break;
+                    case REMOVE_STATIC: removeStaticNow((Sprite) target, pendingOrders.get(i)); break;
+                    case ADD_GROUP: addGroupNow((StaticGroup) target); break;
+                    case REMOVE_GROUP: removeGroupNow((StaticGroup) target); break;
+                }
+            }
+            pendingChanges.clear();
+            pendingTargets.clear();
+            pendingOrders.clear();
+        }
+    }
+
+    public void render(Batch batch) {
+        if (deferChanges) applyChanges();
+        if (staticDirty) bakeStatic();
+        if (unbakedGroups.size > 0) {
+            for (int i = 0, n = unbakedGroups.size; i < n; i++) bakeGroup(unbakedGroups.get(i));
+            unbakedGroups.clear();
+        }
+
+        Texture lastTexture = null;
+        textureSwitches = 0;
+        renderCalls = 0;
+        for (int i = 0, n = layers.size; i < n; i++) {
+            Layer layer = layers.get(i);
+            if (layer.cacheId != -1 || layer.groups.size > 0) {
+                renderStatic(batch, layer);
+                lastTexture = null;
+            }
+
+            Array<Bucket> buckets = layer.buckets;
+            for (int j = 0, m = buckets.size; j < m; j++) {
+                Bucket bucket = buckets.get(j);
+                Array<Behaviour> behaviours = bucket.behaviours;
+                if (behaviours.size == 0) continue;
+
+                if (bucket.texture != null && bucket.texture != lastTexture) {
+                    if (lastTexture != null) textureSwitches++;
+                    lastTexture = bucket.texture;
+                }
+
+                for (int k = 0, o = behaviours.size; k < o; k++) {
+                    Behaviour behaviour = behaviours.get(k);
+                    if (!behaviour.isEnabled() || !behaviour.getGameObject().isEnabled()) continue;
+
+                    behaviour.render(batch);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return how often the texture changed between buckets during the last render. With grouping enabled each change
+     * is one batch flush.
+     */
+    public int getTextureSwitches() {
+        return textureSwitches;
+    }
+
+    /**
+     * @return the draw calls of the last render that {@link SpriteBatch#renderCalls} does not count: the static layers
+     * and the batch flushes before each of them, which are lost when the batch is restarted. Add the render calls of
+     * the batch after it ended to get the total of the frame.
+     */
+    public int getRenderCalls() {
+        return renderCalls;
+    }
+
+    public int size() {
+        return bucketByBehaviour.size;
+    }
+
+    private void bakeStatic() {
+        if (spriteCache != null) spriteCache.dispose();
+        spriteCache = null;
+        staticDirty = false;
+        for (int i = 0, n = layers.size; i < n; i++) layers.get(i).cacheId = -1;
+        if (staticSpriteCount == 0) return;
+
+        spriteCache = new SpriteCache(staticSpriteCount, false);
+        for (int i = 0, n = layers.size; i < n; i++) {
+            Layer layer = layers.get(i);
+            if (layer.staticSprites.size == 0) continue;
+
+            spriteCache.beginCache();
+            for (int j = 0, m = layer.staticSprites.size; j < m; j++)
+                spriteCache.add(layer.staticSprites.get(j));
+            layer.cacheId = spriteCache.endCache();
+        }
+    }
+
+    private void bakeGroup(StaticGroup group) {
+        if (group.sprites.size == 0) return;
+
+        SpriteCache groupCache = new SpriteCache(group.sprites.size, false);
+        for (int i = 0, n = layers.size; i < n; i++) {
+            Layer layer = layers.get(i);
+            boolean caching = false;
+            for (int j = 0, m = group.sprites.size; j < m; j++) {
+                if (group.renderOrders.get(j) != layer.order) continue;
+
+                if (!caching) {
+                    groupCache.beginCache();
+                    caching = true;
+                }
+                groupCache.add(group.sprites.get(j));
+            }
+            if (!caching) continue;
+
+            layer.groups.add(group);
+            layer.groupCacheIds.add(groupCache.endCache());
+        }
+        group.spriteCache = groupCache;
+    }
+
+    private void renderStatic(Batch batch, Layer layer) {
+        // The caches have their own shader and mesh, so pending sprites have to be flushed first
+        batch.end();
+        // Beginning the batch again resets its counter
+        if (batch instanceof SpriteBatch) renderCalls += ((SpriteBatch) batch).renderCalls;
+
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        if (layer.cacheId != -1) drawCache(batch, spriteCache, layer.cacheId);
+        for (int i = 0, n = layer.groups.size; i < n; i++)
+            drawCache(batch, layer.groups.get(i).spriteCache, layer.groupCacheIds.get(i));
+
+        batch.begin();
+    }
+
+    private void drawCache(Batch batch, SpriteCache cache, int cacheId) {
+        cache.setProjectionMatrix(batch.getProjectionMatrix());
+        cache.setTransformMatrix(batch.getTransformMatrix());
+        cache.begin();
+        cache.draw(cacheId);
+        cache.end();
+        renderCalls += cache.renderCalls;
+    }
+
+    @Override
+    public void dispose() {
+        if (spriteCache != null) spriteCache.dispose();
+        spriteCache = null;
+        staticDirty = staticSpriteCount > 0;
+
+        // Groups are baked again on the next render
+        for (int i = 0, n = layers.size; i < n; i++) {
+            Layer layer = layers.get(i);
+            for (int j = 0, m = layer.groups.size; j < m; j++) {
+                StaticGroup group = layer.groups.get(j);
+                if (group.spriteCache == null) continue;
+
+                group.spriteCache.dispose();
+                group.spriteCache = null;
+                unbakedGroups.add(group);
+            }
+            layer.groups.clear();
+            layer.groupCacheIds.clear();
+        }
+    }
+
+    private Texture getTexture(Behaviour behaviour) {
+        if (!groupByTexture || !(behaviour instanceof Textured)) return null;
+        return ((Textured) behaviour).getTexture();
+    }
+
+    private Layer obtainLayer(float order) {
+        int index = 0;
+        for (int n = layers.size; index < n; index++) {
+            Layer layer = layers.get(index);
+            if (layer.order == order) return layer;
+            if (layer.order > order) break;
+        }
+
+        Layer layer = new Layer(order);
+        layers.insert(index, layer);
+        return layer;
+    }
+
+    private static class Layer {
+        private final float order;
+        /** One bucket per texture, or a single bucket when not grouping by texture. */
+        private final Array<Bucket> buckets = new Array<>();
+        private final Array<Sprite> staticSprites = new Array<>();
+        private int cacheId = -1;
+        /** The baked groups with sprites in this layer and the id of the layer in the cache of each group. */
+        private final Array<StaticGroup> groups = new Array<>();
+        private final IntArray groupCacheIds = new IntArray();
+
+        private Layer(float order) {
+            this.order = order;
+        }
+
+        private Bucket obtainBucket(Texture texture) {
+            for (int i = 0, n = buckets.size; i < n; i++) {
+                Bucket bucket = buckets.get(i);
+                if (bucket.texture == texture) return bucket;
+            }
+
+            Bucket bucket = new Bucket(this, texture);
+            buckets.add(bucket);
+            return bucket;
+        }
+    }
+
+    private static class Bucket {
+        private final Layer layer;
+        private final Texture texture;
+        private final Array<Behaviour> behaviours = new Array<>();
+
+        private Bucket(Layer layer, Texture texture) {
+            this.layer = layer;
+            this.texture = texture;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.ray3k.unbox2d;
+
+/**
+ * Tells the sprite behaviours whether anything is ever drawn. A dedicated server steps the world without a
+ * {@link com.badlogic.gdx.graphics.g2d.Batch}, so there is no point in positioning sprites. Set this before the world
+ * is created.
+ */
+public final class RenderMode {
+    private static boolean headless;
+
+    private RenderMode() {
+    }
+
+    /** @return true if there is no batch and sprite behaviours skip their work. */
+    public static boolean isHeadless() {
+        return headless;
+    }
+
+    /**
+     * Turns {@link CachedSpriteBehaviour}, its subclasses and {@link SpriteImprovedBehaviour} into no-ops. Off by
+     * default.
+     */
+    public static void setHeadless(boolean headless) {
+        RenderMode.headless = headless;
+    }
+}
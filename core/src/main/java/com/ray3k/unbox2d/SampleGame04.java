@@ -33,6 +33,11 @@ public class SampleGame04 extends ApplicationAdapter {
         debugRenderer = new Box2DDebugRenderer();
         unBox = new UnBox<>(new Box2dPhysicsWorld(new World(new Vector2(0, 0), true)));
 
+        createWorld(unBox);
+    }
+
+    /** Creates the game objects of this sample. Does not require a GL context. */
+    public static void createWorld(UnBox<Box2dPhysicsWorld> unBox) {
         GameObject rightGo = new GameObject(unBox);
         GameObject leftGo = new GameObject(unBox);
 
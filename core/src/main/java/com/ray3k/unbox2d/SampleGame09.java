@@ -39,6 +39,11 @@ public class SampleGame09 extends ApplicationAdapter {
         unBox = new UnBox<>(new Box2dPhysicsWorld(new World(new Vector2(0, 0), true)));
         textureAtlas = new TextureAtlas(Gdx.files.internal("textures.atlas"));
 
+        createWorld(unBox, textureAtlas::findRegion);
+    }
+
+    /** Creates the game objects of this sample. Does not require a GL context. */
+    public static void createWorld(UnBox<Box2dPhysicsWorld> unBox, RegionProvider regions) {
         GameObject rightGo = new GameObject(unBox);
         GameObject leftGo = new GameObject(unBox);
 
@@ -66,12 +71,12 @@ public class SampleGame09 extends ApplicationAdapter {
         new TeamEnemyBehaviour(leftGo);
         new TeamPlayerBehaviour(rightGo);
 
-        Sprite sprite = new Sprite(textureAtlas.findRegion("tractor"));
+        Sprite sprite = new Sprite(regions.findRegion("tractor"));
         sprite.setSize(1, 1);
         sprite.setOriginCenter();
         new SpriteBehaviour(rightGo, -.5f, -.5f, sprite);
 
-        sprite = new Sprite(textureAtlas.findRegion("spider"));
+        sprite = new Sprite(regions.findRegion("spider"));
         sprite.setSize(1, 1);
         sprite.setOriginCenter();
         new SpriteBehaviour(leftGo, -.5f, -.5f, sprite);
@@ -82,7 +87,7 @@ public class SampleGame09 extends ApplicationAdapter {
         bodyDef.position.set(10, 0);
         new Box2dBehaviour(bodyDef, wall);
         new CreateBox2dBoxFixtureBehaviour(.5f, 10, wall);
-        sprite = new Sprite(textureAtlas.findRegion("wall-vertical"));
+        sprite = new Sprite(regions.findRegion("wall-vertical"));
         sprite.setSize(1, 20);
         sprite.setOriginCenter();
         new SpriteBehaviour(wall, -.5f, -10, sprite);
@@ -93,7 +98,7 @@ public class SampleGame09 extends ApplicationAdapter {
         bodyDef.position.set(-10, 0);
         new Box2dBehaviour(bodyDef, wall);
         new CreateBox2dBoxFixtureBehaviour(.5f, 10, wall);
-        sprite = new Sprite(textureAtlas.findRegion("wall-vertical"));
+        sprite = new Sprite(regions.findRegion("wall-vertical"));
         sprite.setSize(1, 20);
         sprite.setOriginCenter();
         new SpriteBehaviour(wall, -.5f, -10, sprite);
@@ -104,7 +109,7 @@ public class SampleGame09 extends ApplicationAdapter {
         bodyDef.position.set(0, 9.5f);
         new Box2dBehaviour(bodyDef, wall);
         new CreateBox2dBoxFixtureBehaviour(9.5f, .5f, wall);
-        sprite = new Sprite(textureAtlas.findRegion("wall-horizontal"));
+        sprite = new Sprite(regions.findRegion("wall-horizontal"));
         sprite.setSize(19, 1);
         sprite.setOriginCenter();
         new SpriteBehaviour(wall, -9.5f, -.5f, sprite);
@@ -115,7 +120,7 @@ public class SampleGame09 extends ApplicationAdapter {
         bodyDef.position.set(0, -9.5f);
         new Box2dBehaviour(bodyDef, wall);
         new CreateBox2dBoxFixtureBehaviour(9.5f, .5f, wall);
-        sprite = new Sprite(textureAtlas.findRegion("wall-horizontal"));
+        sprite = new Sprite(regions.findRegion("wall-horizontal"));
         sprite.setSize(19, 1);
         sprite.setOriginCenter();
         new SpriteBehaviour(wall, -9.5f, -.5f, sprite);
@@ -5,7 +5,6 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
@@ -27,7 +26,7 @@ public class SampleGame10 extends ApplicationAdapter {
     private SpriteBatch batch;
     private UnBox<Box2dPhysicsWorld> unBox;
     private Box2DDebugRenderer debugRenderer;
-    private TextureAtlas textureAtlas;
+    private LoadingPipeline assets;
 
     @Override
     public void create() {
@@ -36,8 +35,11 @@ public class SampleGame10 extends ApplicationAdapter {
         batch = new SpriteBatch();
         debugRenderer = new Box2DDebugRenderer();
         unBox = new UnBox<>(new Box2dPhysicsWorld(new World(new Vector2(0, 0), true)));
-        textureAtlas = new TextureAtlas(Gdx.files.internal("textures.atlas"));
+        assets = new LoadingPipeline("textures.atlas");
+    }
 
+    /** Creates the game objects of this sample. Does not require a GL context. */
+    public static void createWorld(UnBox<Box2dPhysicsWorld> unBox, RegionProvider regions) {
         GameObject rightGo = new GameObject(unBox);
         GameObject leftGo = new GameObject(unBox);
 
@@ -65,12 +67,12 @@ public class SampleGame10 extends ApplicationAdapter {
         new TeamEnemyBehaviour(leftGo);
         new TeamPlayerBehaviour(rightGo);
 
-        Sprite sprite = new Sprite(textureAtlas.findRegion("tractor"));
+        Sprite sprite = new Sprite(regions.findRegion("tractor"));
         sprite.setSize(1, 1);
         sprite.setOriginCenter();
         new SpriteBehaviour(rightGo, -.5f, -.5f, sprite);
 
-        sprite = new Sprite(textureAtlas.findRegion("spider"));
+        sprite = new Sprite(regions.findRegion("spider"));
         sprite.setSize(1, 1);
         sprite.setOriginCenter();
         new SpriteBehaviour(leftGo, -.5f, -.5f, sprite);
@@ -81,7 +83,7 @@ public class SampleGame10 extends ApplicationAdapter {
         bodyDef.position.set(10, 0);
         new Box2dBehaviour(bodyDef, wall);
         new CreateBox2dBoxFixtureBehaviour(.5f, 10, wall);
-        sprite = new Sprite(textureAtlas.findRegion("wall-vertical"));
+        sprite = new Sprite(regions.findRegion("wall-vertical"));
         sprite.setSize(1, 20);
         sprite.setOriginCenter();
         new SpriteBehaviour(wall, -.5f, -10, sprite);
@@ -92,7 +94,7 @@ public class SampleGame10 extends ApplicationAdapter {
         bodyDef.position.set(-10, 0);
         new Box2dBehaviour(bodyDef, wall);
         new CreateBox2dBoxFixtureBehaviour(.5f, 10, wall);
-        sprite = new Sprite(textureAtlas.findRegion("wall-vertical"));
+        sprite = new Sprite(regions.findRegion("wall-vertical"));
         sprite.setSize(1, 20);
         sprite.setOriginCenter();
         new SpriteBehaviour(wall, -.5f, -10, sprite);
@@ -103,7 +105,7 @@ public class SampleGame10 extends ApplicationAdapter {
         bodyDef.position.set(0, 9.5f);
         new Box2dBehaviour(bodyDef, wall);
         new CreateBox2dBoxFixtureBehaviour(9.5f, .5f, wall);
-        sprite = new Sprite(textureAtlas.findRegion("wall-horizontal"));
+        sprite = new Sprite(regions.findRegion("wall-horizontal"));
         sprite.setSize(19, 1);
         sprite.setOriginCenter();
         new SpriteBehaviour(wall, -9.5f, -.5f, sprite);
@@ -114,39 +116,39 @@ public class SampleGame10 extends ApplicationAdapter {
         bodyDef.position.set(0, -9.5f);
         new Box2dBehaviour(bodyDef, wall);
         new CreateBox2dBoxFixtureBehaviour(9.5f, .5f, wall);
-        sprite = new Sprite(textureAtlas.findRegion("wall-horizontal"));
+        sprite = new Sprite(regions.findRegion("wall-horizontal"));
         sprite.setSize(19, 1);
         sprite.setOriginCenter();
         new SpriteBehaviour(wall, -9.5f, -.5f, sprite);
 
         GameObject ground = new GameObject(unBox);
-        sprite = new Sprite(textureAtlas.findRegion("ground"));
+        sprite = new Sprite(regions.findRegion("ground"));
         sprite.setSize(19, 18);
         sprite.setOriginCenter();
         new SpriteBehaviour(ground, -9.5f, -9, sprite);
 
         GameObject web = new GameObject(unBox);
-        sprite = new Sprite(textureAtlas.findRegion("cobweb"));
+        sprite = new Sprite(regions.findRegion("cobweb"));
         sprite.setSize(1, 1);
         sprite.setOriginCenter();
         new SpriteBehaviour(web, 8.5f, 8, sprite);
 
         web = new GameObject(unBox);
-        sprite = new Sprite(textureAtlas.findRegion("cobweb"));
+        sprite = new Sprite(regions.findRegion("cobweb"));
         sprite.setSize(1, 1);
         sprite.setOriginCenter();
         sprite.flip(true, false);
         new SpriteBehaviour(web, -9.5f, 8, sprite);
 
         web = new GameObject(unBox);
-        sprite = new Sprite(textureAtlas.findRegion("cobweb"));
+        sprite = new Sprite(regions.findRegion("cobweb"));
         sprite.setSize(1, 1);
         sprite.setOriginCenter();
         sprite.flip(false, true);
         new SpriteBehaviour(web, 8.5f, -9, sprite);
 
         web = new GameObject(unBox);
-        sprite = new Sprite(textureAtlas.findRegion("cobweb"));
+        sprite = new Sprite(regions.findRegion("cobweb"));
         sprite.setSize(1, 1);
         sprite.setOriginCenter();
         sprite.flip(true, true);
@@ -157,6 +159,12 @@ public class SampleGame10 extends ApplicationAdapter {
     public void render() {
         ScreenUtils.clear(Color.GRAY);
 
+        // Load the atlas a few milliseconds per frame so the window stays responsive, then build the world once
+        if (!assets.isLoaded()) {
+            if (assets.update(16)) createWorld(unBox, assets.getRegions());
+            return;
+        }
+
         // Step through physics and update loops
         unBox.preRender(Gdx.graphics.getDeltaTime());
 
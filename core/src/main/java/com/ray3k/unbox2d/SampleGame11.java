@@ -5,7 +5,6 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
@@ -27,7 +26,7 @@ public class SampleGame11 extends ApplicationAdapter {
     private SpriteBatch batch;
     private UnBox<Box2dPhysicsWorld> unBox;
     private Box2DDebugRenderer debugRenderer;
-    private TextureAtlas textureAtlas;
+    private LoadingPipeline assets;
     public static final float RO_BACKGROUND = -10;
     public static final float RO_CHARACTERS = 0;
     public static final float RO_FOREGROUND = 10;
@@ -39,8 +38,11 @@ public class SampleGame11 extends ApplicationAdapter {
         batch = new SpriteBatch();
         debugRenderer = new Box2DDebugRenderer();
         unBox = new UnBox<>(new Box2dPhysicsWorld(new World(new Vector2(0, 0), true)));
-        textureAtlas = new TextureAtlas(Gdx.files.internal("textures.atlas"));
+        assets = new LoadingPipeline("textures.atlas");
+    }
 
+    /** Creates the game objects of this sample. Does not require a GL context. */
+    public static void createWorld(UnBox<Box2dPhysicsWorld> unBox, RegionProvider regions) {
         GameObject rightGo = new GameObject(unBox);
         GameObject leftGo = new GameObject(unBox);
 
@@ -68,12 +70,12 @@ public class SampleGame11 extends ApplicationAdapter {
         new TeamEnemyBehaviour(leftGo);
         new TeamPlayerBehaviour(rightGo);
 
-        Sprite sprite = new Sprite(textureAtlas.findRegion("tractor"));
+        Sprite sprite = new Sprite(regions.findRegion("tractor"));
         sprite.setSize(1, 1);
         sprite.setOriginCenter();
         new SpriteImprovedBehaviour(rightGo, -.5f, -.5f, sprite, RO_CHARACTERS);
 
-        sprite = new Sprite(textureAtlas.findRegion("spider"));
+        sprite = new Sprite(regions.findRegion("spider"));
         sprite.setSize(1, 1);
         sprite.setOriginCenter();
         new SpriteImprovedBehaviour(leftGo, -.5f, -.5f, sprite, RO_CHARACTERS);
@@ -84,7 +86,7 @@ public class SampleGame11 extends ApplicationAdapter {
         bodyDef.position.set(10, 0);
         new Box2dBehaviour(bodyDef, wall);
         new CreateBox2dBoxFixtureBehaviour(.5f, 10, wall);
-        sprite = new Sprite(textureAtlas.findRegion("wall-vertical"));
+        sprite = new Sprite(regions.findRegion("wall-vertical"));
         sprite.setSize(1, 20);
         sprite.setOriginCenter();
         new SpriteImprovedBehaviour(wall, -.5f, -10, sprite, RO_BACKGROUND);
@@ -95,7 +97,7 @@ public class SampleGame11 extends ApplicationAdapter {
         bodyDef.position.set(-10, 0);
         new Box2dBehaviour(bodyDef, wall);
         new CreateBox2dBoxFixtureBehaviour(.5f, 10, wall);
-        sprite = new Sprite(textureAtlas.findRegion("wall-vertical"));
+        sprite = new Sprite(regions.findRegion("wall-vertical"));
         sprite.setSize(1, 20);
         sprite.setOriginCenter();
         new SpriteImprovedBehaviour(wall, -.5f, -10, sprite, RO_BACKGROUND);
@@ -106,7 +108,7 @@ public class SampleGame11 extends ApplicationAdapter {
         bodyDef.position.set(0, 9.5f);
         new Box2dBehaviour(bodyDef, wall);
         new CreateBox2dBoxFixtureBehaviour(9.5f, .5f, wall);
-        sprite = new Sprite(textureAtlas.findRegion("wall-horizontal"));
+        sprite = new Sprite(regions.findRegion("wall-horizontal"));
         sprite.setSize(19, 1);
         sprite.setOriginCenter();
         new SpriteImprovedBehaviour(wall, -9.5f, -.5f, sprite, RO_BACKGROUND);
@@ -117,39 +119,39 @@ public class SampleGame11 extends ApplicationAdapter {
         bodyDef.position.set(0, -9.5f);
         new Box2dBehaviour(bodyDef, wall);
         new CreateBox2dBoxFixtureBehaviour(9.5f, .5f, wall);
-        sprite = new Sprite(textureAtlas.findRegion("wall-horizontal"));
+        sprite = new Sprite(regions.findRegion("wall-horizontal"));
         sprite.setSize(19, 1);
         sprite.setOriginCenter();
         new SpriteImprovedBehaviour(wall, -9.5f, -.5f, sprite, RO_BACKGROUND);
 
         GameObject ground = new GameObject(unBox);
-        sprite = new Sprite(textureAtlas.findRegion("ground"));
+        sprite = new Sprite(regions.findRegion("ground"));
         sprite.setSize(19, 18);
         sprite.setOriginCenter();
         new SpriteImprovedBehaviour(ground, -9.5f, -9, sprite, RO_BACKGROUND);
 
         GameObject web = new GameObject(unBox);
-        sprite = new Sprite(textureAtlas.findRegion("cobweb"));
+        sprite = new Sprite(regions.findRegion("cobweb"));
         sprite.setSize(1, 1);
         sprite.setOriginCenter();
         new SpriteImprovedBehaviour(web, 8.5f, 8, sprite, RO_FOREGROUND);
 
         web = new GameObject(unBox);
-        sprite = new Sprite(textureAtlas.findRegion("cobweb"));
+        sprite = new Sprite(regions.findRegion("cobweb"));
         sprite.setSize(1, 1);
         sprite.setOriginCenter();
         sprite.flip(true, false);
         new SpriteImprovedBehaviour(web, -9.5f, 8, sprite, RO_FOREGROUND);
 
         web = new GameObject(unBox);
-        sprite = new Sprite(textureAtlas.findRegion("cobweb"));
+        sprite = new Sprite(regions.findRegion("cobweb"));
         sprite.setSize(1, 1);
         sprite.setOriginCenter();
         sprite.flip(false, true);
         new SpriteImprovedBehaviour(web, 8.5f, -9, sprite, RO_FOREGROUND);
 
         web = new GameObject(unBox);
-        sprite = new Sprite(textureAtlas.findRegion("cobweb"));
+        sprite = new Sprite(regions.findRegion("cobweb"));
         sprite.setSize(1, 1);
         sprite.setOriginCenter();
         sprite.flip(true, true);
@@ -160,6 +162,12 @@ public class SampleGame11 extends ApplicationAdapter {
     public void render() {
         ScreenUtils.clear(Color.GRAY);
 
+        // Load the atlas a few milliseconds per frame so the window stays responsive, then build the world once
+        if (!assets.isLoaded()) {
+            if (assets.update(16)) createWorld(unBox, assets.getRegions());
+            return;
+        }
+
         // Step through physics and update loops
         unBox.preRender(Gdx.graphics.getDeltaTime());
 
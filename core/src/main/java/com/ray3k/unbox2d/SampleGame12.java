@@ -0,0 +1,225 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input.Keys;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.ScreenUtils;
+import com.badlogic.gdx.utils.viewport.FitViewport;
+import com.ray3k.unbox2d.FrameProfiler.Phase;
+import dev.lyze.gdxUnBox2d.Box2DDebugLineBatch;
+import dev.lyze.gdxUnBox2d.Box2DDebugShapeDrawer;
+import dev.lyze.gdxUnBox2d.Box2dPhysicsWorld;
+import dev.lyze.gdxUnBox2d.GameObject;
+import dev.lyze.gdxUnBox2d.UnBox;
+import dev.lyze.gdxUnBox2d.behaviours.box2d.Box2dBehaviour;
+import dev.lyze.gdxUnBox2d.behaviours.box2d.fixtures.CreateBox2dCircleFixtureBehaviour;
+
+import java.nio.ByteBuffer;
+
+/** {@link com.badlogic.gdx.ApplicationListener} implementation shared by all platforms. */
+public class SampleGame12 extends ApplicationAdapter {
+    public FitViewport viewport;
+    private SpriteBatch batch;
+    private UnBox<Box2dPhysicsWorld> unBox;
+    private Box2DDebugLineBatch debugLineBatch;
+    private Box2DDebugShapeDrawer debugDrawer;
+    private boolean debugDraw;
+    private LoadingPipeline assets;
+    private RenderLayers renderLayers;
+    private FrameProfiler profiler;
+    private FrameProfilerOverlay profilerOverlay;
+    private BehaviourSampler behaviourSampler;
+    private InputRecorder inputRecorder;
+    private WorldSnapshot worldSnapshot;
+    private ByteBuffer quickSave;
+    public static final float RO_BACKGROUND = -10;
+    public static final float RO_CHARACTERS = 0;
+    public static final float RO_FOREGROUND = 10;
+
+    @Override
+    public void create() {
+        viewport = new FitViewport(30, 30);
+        viewport.getCamera().translate(0, 0, 0);
+        batch = new SpriteBatch();
+        debugLineBatch = new Box2DDebugLineBatch();
+        debugDrawer = new Box2DDebugShapeDrawer(debugLineBatch);
+        unBox = new UnBox<>(new Box2dPhysicsWorld(new World(new Vector2(0, 0), true)));
+        assets = new LoadingPipeline("textures.atlas");
+        renderLayers = new RenderLayers(true);
+        profiler = new FrameProfiler();
+        profilerOverlay = new FrameProfilerOverlay(profiler);
+        behaviourSampler = new BehaviourSampler(profiler, Thread.currentThread());
+        inputRecorder = new InputRecorder(new KeyboardInputSource());
+    }
+
+    /** Creates the game objects of this sample with the player controlled by the arrow keys. */
+    public static WorldSnapshot createWorld(UnBox<Box2dPhysicsWorld> unBox, RegionProvider regions,
+                                            RenderLayers renderLayers) {
+        return createWorld(unBox, regions, renderLayers, new KeyboardInputSource());
+    }
+
+    /**
+     * Creates the game objects of this sample. Does not require a GL context.
+     *
+     * @return a snapshot that tracks everything that moves.
+     */
+    public static WorldSnapshot createWorld(UnBox<Box2dPhysicsWorld> unBox, RegionProvider regions,
+                                            RenderLayers renderLayers, InputSource input) {
+        // Tracks the time between fixed steps so sprites can be interpolated
+        GameObject clockGo = new GameObject(unBox);
+        FixedStepClock clock = new FixedStepClock(clockGo);
+        TransformSnapshot snapshot = new TransformSnapshot(new GameObject(unBox));
+        ContactEventBuffer contactEvents = new ContactEventBuffer(new GameObject(unBox));
+
+        GameObject rightGo = new GameObject(unBox);
+        GameObject leftGo = new GameObject(unBox);
+
+        BodyDef bodyDef = new BodyDef();
+        bodyDef.type = BodyType.DynamicBody;
+        bodyDef.position.set(5f, 0);
+        new Box2dBehaviour(bodyDef, rightGo);
+
+        bodyDef = new BodyDef();
+        bodyDef.type = BodyType.DynamicBody;
+        bodyDef.position.set(-5f, 0);
+        new Box2dBehaviour(bodyDef, leftGo);
+
+        new CreateBox2dCircleFixtureBehaviour(.5f, rightGo);
+        new CreateBox2dCircleFixtureBehaviour(.5f, leftGo);
+
+        new LogBehaviour("Right GO", false, rightGo);
+        new LogBehaviour("Left GO", false, leftGo);
+
+        // Attach a movement behaviour to both game objects
+        new MoveBehaviour(true, leftGo);
+        new KeyboardImprovedBehaviour(input, rightGo);
+        new TeamCollisionBehaviour(Team.ENEMY, contactEvents, rightGo);
+
+        // Teams are collision filters, so the player checks a bit instead of looking up a behaviour on every contact
+        new TeamBehaviour(Team.ENEMY, leftGo);
+        new TeamBehaviour(Team.PLAYER, rightGo);
+
+        Sprite sprite = new Sprite(regions.findRegion("tractor"));
+        sprite.setSize(1, 1);
+        sprite.setOriginCenter();
+        InterpolatedSpriteBehaviour spriteBehaviour = new InterpolatedSpriteBehaviour(rightGo, -.5f, -.5f, sprite, RO_CHARACTERS, clock);
+        spriteBehaviour.setRenderLayers(renderLayers);
+        spriteBehaviour.setTransformSnapshot(snapshot);
+        // The tractor falls asleep when the player lets go of the keys
+        spriteBehaviour.setSleepAware(true);
+        // Only the characters and the clock change, the scene is static
+        WorldSnapshot worldSnapshot = new WorldSnapshot();
+        worldSnapshot.track(clockGo, clock);
+        worldSnapshot.track(rightGo, spriteBehaviour);
+
+        sprite = new Sprite(regions.findRegion("spider"));
+        sprite.setSize(1, 1);
+        sprite.setOriginCenter();
+        spriteBehaviour = new InterpolatedSpriteBehaviour(leftGo, -.5f, -.5f, sprite, RO_CHARACTERS, clock);
+        spriteBehaviour.setRenderLayers(renderLayers);
+        spriteBehaviour.setTransformSnapshot(snapshot);
+        spriteBehaviour.setSleepAware(true);
+        worldSnapshot.track(leftGo, spriteBehaviour);
+
+        // The walls, the ground and the cobwebs are described by a scene file instead of being built by hand
+        SceneLoader.load(SceneJson.load(Gdx.files.internal("scenes/arena.json")), unBox, regions, renderLayers);
+        return worldSnapshot;
+    }
+
+    @Override
+    public void render() {
+        ScreenUtils.clear(Color.GRAY);
+
+        // Load the atlas a few milliseconds per frame so the window stays responsive, then build the world once
+        if (!assets.isLoaded()) {
+            if (assets.update(16)) {
+                worldSnapshot = createWorld(unBox, assets.getRegions(), renderLayers, inputRecorder);
+                quickSave = ByteBuffer.allocate(worldSnapshot.getSize());
+            }
+            return;
+        }
+
+        // F2 toggles the Box2D debug drawing
+        if (Gdx.input.isKeyJustPressed(Keys.F2)) debugDraw = !debugDraw;
+        // F3 shows the frame profiler, F4 starts and stops recording it to profile.csv
+        if (Gdx.input.isKeyJustPressed(Keys.F3)) profiler.setActive(!profiler.isActive());
+        if (Gdx.input.isKeyJustPressed(Keys.F4)) {
+            if (profiler.isRecording()) profiler.stopRecording(Gdx.files.local("profile.csv"));
+            else profiler.startRecording();
+        }
+        // F5 saves the input of the session so far, play it back with the ReplayRunner of the server module
+        if (Gdx.input.isKeyJustPressed(Keys.F5)) inputRecorder.save(Gdx.files.local("replay.bin"));
+        // F6 quick saves the world, F7 restores the quick save
+        if (Gdx.input.isKeyJustPressed(Keys.F6)) {
+            quickSave.clear();
+            worldSnapshot.save(quickSave);
+            Log.info("SampleGame12", "Saved in microseconds ", worldSnapshot.getLastSaveNanos() / 1000f);
+        }
+        if (Gdx.input.isKeyJustPressed(Keys.F7) && quickSave.position() > 0) {
+            quickSave.rewind();
+            worldSnapshot.restore(quickSave);
+            Log.info("SampleGame12", "Restored in microseconds ", worldSnapshot.getLastRestoreNanos() / 1000f);
+            // A replay starts from a fresh world and cannot jump back, so the input log ends here
+            if (inputRecorder.isRecording()) {
+                inputRecorder.stopRecording();
+                Log.info("SampleGame12", "Input recording stopped by the restore");
+            }
+        }
+
+        // Step through physics and update loops
+        profiler.begin(Phase.PRE_RENDER);
+        unBox.preRender(Gdx.graphics.getDeltaTime());
+        profiler.end(Phase.PRE_RENDER);
+
+        viewport.apply();
+        batch.setProjectionMatrix(viewport.getCamera().combined);
+
+        // Render the state
+        profiler.begin(Phase.RENDER);
+        batch.begin();
+        // Render the sprites layer by layer without sorting them every frame
+        renderLayers.render(batch);
+        //ex. stage.draw();
+        batch.end();
+        profiler.end(Phase.RENDER);
+
+        // Debug render the box2d bodies in view with a single draw call
+        if (debugDraw) {
+            profiler.begin(Phase.DEBUG_DRAW);
+            debugDrawer.render(unBox.getPhysicsWorld().getWorld(), viewport.getCamera());
+            profiler.end(Phase.DEBUG_DRAW);
+        }
+
+        // Clean up render loop
+        profiler.begin(Phase.POST_RENDER);
+        unBox.postRender();
+        profiler.end(Phase.POST_RENDER);
+
+        int debugRenderCalls = debugDraw ? debugLineBatch.renderCalls : 0;
+        profiler.endFrame(batch.renderCalls + renderLayers.getRenderCalls() + debugRenderCalls);
+        if (profiler.isActive()) profilerOverlay.render(batch);
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        viewport.update(width, height);
+        debugLineBatch.setPixelSize(viewport.getWorldWidth() / viewport.getScreenWidth());
+    }
+
+    @Override
+    public void dispose() {
+        batch.dispose();
+        assets.dispose();
+        renderLayers.dispose();
+        debugLineBatch.dispose();
+        profilerOverlay.dispose();
+        behaviourSampler.dispose();
+    }
+}
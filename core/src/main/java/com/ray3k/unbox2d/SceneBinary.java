@@ -0,0 +1,29 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.files.FileHandle;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Loads and saves the binary form of a scene. Local, absolute and external files are memory mapped, so the records are
+ * read by the OS on demand and never copied onto the heap. Internal files inside a jar cannot be mapped and are read
+ * into memory instead. Not available on GWT.
+ */
+public class SceneBinary {
+    private SceneBinary() {
+    }
+
+    public static SceneData load(FileHandle file) {
+        if (file.type() == FileType.Classpath || file.type() == FileType.Internal && !file.file().exists())
+            return new SceneData(ByteBuffer.wrap(file.readBytes()));
+        return new SceneData(file.map());
+    }
+
+    public static void save(SceneData scene, FileHandle file) {
+        ByteBuffer buffer = scene.getBuffer();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        file.writeBytes(bytes, false);
+    }
+}
@@ -0,0 +1,133 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A scene in its binary form. The entities are fixed size records that are read straight from the buffer by index, so
+ * a memory mapped file can be used without copying or parsing it. Only the string table is decoded up front.
+ * <p>
+ * Layout, little endian: a header of magic, version, entity count and string count as ints, then one
+ * {@value #RECORD_SIZE} byte record per entity, then the strings as an unsigned short byte length followed by UTF-8
+ * bytes. A record holds the body type, shape and flags as bytes, a padding byte, the string index of the sprite region
+ * as int and x, y, shape size, sprite offset, sprite size and render order as floats.
+ */
+public class SceneData {
+    public static final int MAGIC = 0x55425343;
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 16;
+    public static final int RECORD_SIZE = 44;
+
+    public static final byte BODY_NONE = 0, BODY_STATIC = 1, BODY_KINEMATIC = 2, BODY_DYNAMIC = 3;
+    public static final byte SHAPE_NONE = 0, SHAPE_BOX = 1, SHAPE_CIRCLE = 2;
+    public static final byte FLAG_FLIP_X = 1, FLAG_FLIP_Y = 2;
+
+    static final int BODY = 0, SHAPE = 1, FLAGS = 2, REGION = 4, X = 8, Y = 12, SIZE_A = 16, SIZE_B = 20;
+    static final int SPRITE_X = 24, SPRITE_Y = 28, SPRITE_WIDTH = 32, SPRITE_HEIGHT = 36, RENDER_ORDER = 40;
+
+    private final ByteBuffer buffer;
+    private final int entityCount;
+    private final String[] strings;
+
+    public SceneData(ByteBuffer buffer) {
+        this.buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.getInt(0) != MAGIC) throw new GdxRuntimeException("Not a scene file.");
+        if (buffer.getInt(4) != VERSION) throw new GdxRuntimeException("Unsupported scene version: " + buffer.getInt(4));
+
+        entityCount = buffer.getInt(8);
+        strings = new String[buffer.getInt(12)];
+        int position = HEADER_SIZE + entityCount * RECORD_SIZE;
+        for (int i = 0; i < strings.length; i++) {
+            if (position + 2 > buffer.limit()) throw new GdxRuntimeException("The scene file is truncated.");
+            int length = buffer.getShort(position) & 0xFFFF;
+            position += 2;
+            if (position + length > buffer.limit()) throw new GdxRuntimeException("The scene file is truncated.");
+
+            byte[] bytes = new byte[length];
+            for (int j = 0; j < bytes.length; j++) bytes[j] = buffer.get(position + j);
+            position += bytes.length;
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    public int getEntityCount() {
+        return entityCount;
+    }
+
+    /** @return the Box2D body type or null if the entity has no body. */
+    public BodyType getBodyType(int entity) {
+        switch (buffer.get(offset(entity) + BODY)) {
+            case BODY_STATIC: return BodyType.StaticBody;
+            case BODY_KINEMATIC: return BodyType.KinematicBody;
+            case BODY_DYNAMIC: return BodyType.DynamicBody;
+            default: return null;
+        }
+    }
+
+    /** @return one of {@link #SHAPE_NONE}, {@link #SHAPE_BOX} or {@link #SHAPE_CIRCLE}. */
+    public byte getShape(int entity) {
+        return buffer.get(offset(entity) + SHAPE);
+    }
+
+    public boolean isFlag(int entity, byte flag) {
+        return (buffer.get(offset(entity) + FLAGS) & flag) != 0;
+    }
+
+    /** @return the name of the sprite region or null if the entity has no sprite. */
+    public String getRegion(int entity) {
+        int index = buffer.getInt(offset(entity) + REGION);
+        return index == -1 ? null : strings[index];
+    }
+
+    public float getX(int entity) {
+        return buffer.getFloat(offset(entity) + X);
+    }
+
+    public float getY(int entity) {
+        return buffer.getFloat(offset(entity) + Y);
+    }
+
+    /** @return the half width of a box or the radius of a circle. */
+    public float getSizeA(int entity) {
+        return buffer.getFloat(offset(entity) + SIZE_A);
+    }
+
+    /** @return the half height of a box. */
+    public float getSizeB(int entity) {
+        return buffer.getFloat(offset(entity) + SIZE_B);
+    }
+
+    /** @return the x offset of the sprite from the entity position. */
+    public float getSpriteX(int entity) {
+        return buffer.getFloat(offset(entity) + SPRITE_X);
+    }
+
+    public float getSpriteY(int entity) {
+        return buffer.getFloat(offset(entity) + SPRITE_Y);
+    }
+
+    public float getSpriteWidth(int entity) {
+        return buffer.getFloat(offset(entity) + SPRITE_WIDTH);
+    }
+
+    public float getSpriteHeight(int entity) {
+        return buffer.getFloat(offset(entity) + SPRITE_HEIGHT);
+    }
+
+    public float getRenderOrder(int entity) {
+        return buffer.getFloat(offset(entity) + RENDER_ORDER);
+    }
+
+    /** @return the whole scene in its binary form, ready to be written to a file. */
+    public ByteBuffer getBuffer() {
+        return buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static int offset(int entity) {
+        return HEADER_SIZE + entity * RECORD_SIZE;
+    }
+}
@@ -0,0 +1,22 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.utils.Array;
+import dev.lyze.gdxUnBox2d.GameObject;
+
+/** Remembers what {@link SceneLoader} created for a scene, so it can be removed again as a whole. */
+public class SceneInstance {
+    final Array<GameObject> gameObjects = new Array<>();
+    final StaticGroup staticGroup = new StaticGroup();
+
+    /** Destroys the game objects of the scene and removes its baked sprites from the render layers. */
+    public void destroy(RenderLayers renderLayers) {
+        for (int i = 0, n = gameObjects.size; i < n; i++) gameObjects.get(i).destroy();
+        gameObjects.clear();
+
+        if (renderLayers != null) renderLayers.removeStatic(staticGroup);
+    }
+
+    public Array<GameObject> getGameObjects() {
+        return gameObjects;
+    }
+}
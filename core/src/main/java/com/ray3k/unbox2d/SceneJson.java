@@ -0,0 +1,125 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads the JSON form of a scene that is used for authoring. Every entry of the {@code entities} array describes one
+ * entity, all keys are optional:
+ * <pre>
+ * { "body": "static", "x": 10, "y": 0, "box": [0.5, 10],
+ *   "sprite": { "region": "wall-vertical", "x": -0.5, "y": -10, "width": 1, "height": 20, "order": -10 } }
+ * </pre>
+ * The body is {@code static}, {@code kinematic} or {@code dynamic}. The shape is either {@code "box": [halfWidth,
+ * halfHeight]} or {@code "circle": radius}. The sprite position is relative to the entity and the sprite can be
+ * flipped with {@code flipX} and {@code flipY}. The result is converted to the binary form, which can be saved with
+ * SceneBinary to skip parsing in shipped builds.
+ */
+public class SceneJson {
+    private SceneJson() {
+    }
+
+    public static SceneData load(FileHandle file) {
+        return parse(new JsonReader().parse(file));
+    }
+
+    public static SceneData parse(JsonValue root) {
+        JsonValue entities = root.get("entities");
+        int entityCount = entities == null ? 0 : entities.size;
+
+        Array<String> strings = new Array<>();
+        ObjectIntMap<String> stringIndices = new ObjectIntMap<>();
+        ByteBuffer records = ByteBuffer.allocate(entityCount * SceneData.RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        int offset = 0;
+        for (JsonValue entity = entities == null ? null : entities.child; entity != null; entity = entity.next) {
+            writeEntity(entity, records, offset, strings, stringIndices);
+            offset += SceneData.RECORD_SIZE;
+        }
+
+        int stringBytes = 0;
+        byte[][] encoded = new byte[strings.size][];
+        for (int i = 0; i < strings.size; i++) {
+            encoded[i] = strings.get(i).getBytes(StandardCharsets.UTF_8);
+            // The length is stored as an unsigned short
+            if (encoded[i].length > 0xFFFF)
+                throw new GdxRuntimeException("String is too long for a scene file: " + encoded[i].length + " bytes");
+            stringBytes += 2 + encoded[i].length;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(SceneData.HEADER_SIZE + records.capacity() + stringBytes);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(SceneData.MAGIC);
+        buffer.putInt(SceneData.VERSION);
+        buffer.putInt(entityCount);
+        buffer.putInt(strings.size);
+        buffer.put(records);
+        for (byte[] bytes : encoded) {
+            buffer.putShort((short) bytes.length);
+            buffer.put(bytes);
+        }
+        buffer.flip();
+        return new SceneData(buffer);
+    }
+
+    private static void writeEntity(JsonValue entity, ByteBuffer records, int offset, Array<String> strings,
+                                    ObjectIntMap<String> stringIndices) {
+        String body = entity.getString("body", null);
+        byte bodyType;
+        if (body == null) bodyType = SceneData.BODY_NONE;
+        else if (body.equals("static")) bodyType = SceneData.BODY_STATIC;
+        else if (body.equals("kinematic")) bodyType = SceneData.BODY_KINEMATIC;
+        else if (body.equals("dynamic")) bodyType = SceneData.BODY_DYNAMIC;
+        else throw new GdxRuntimeException("Unknown body type: " + body);
+
+        byte shape = SceneData.SHAPE_NONE;
+        float sizeA = 0, sizeB = 0;
+        JsonValue box = entity.get("box");
+        if (box != null) {
+            shape = SceneData.SHAPE_BOX;
+            sizeA = box.getFloat(0);
+            sizeB = box.getFloat(1);
+        } else if (entity.has("circle")) {
+            shape = SceneData.SHAPE_CIRCLE;
+            sizeA = entity.getFloat("circle");
+        }
+
+        int region = -1;
+        byte flags = 0;
+        JsonValue sprite = entity.get("sprite");
+        if (sprite != null) {
+            String name = sprite.getString("region");
+            region = stringIndices.get(name, -1);
+            if (region == -1) {
+                region = strings.size;
+                strings.add(name);
+                stringIndices.put(name, region);
+            }
+            if (sprite.getBoolean("flipX", false)) flags |= SceneData.FLAG_FLIP_X;
+            if (sprite.getBoolean("flipY", false)) flags |= SceneData.FLAG_FLIP_Y;
+        }
+
+        records.put(offset + SceneData.BODY, bodyType);
+        records.put(offset + SceneData.SHAPE, shape);
+        records.put(offset + SceneData.FLAGS, flags);
+        records.putInt(offset + SceneData.REGION, region);
+        records.putFloat(offset + SceneData.X, entity.getFloat("x", 0));
+        records.putFloat(offset + SceneData.Y, entity.getFloat("y", 0));
+        records.putFloat(offset + SceneData.SIZE_A, sizeA);
+        records.putFloat(offset + SceneData.SIZE_B, sizeB);
+        if (sprite != null) {
+            records.putFloat(offset + SceneData.SPRITE_X, sprite.getFloat("x", 0));
+            records.putFloat(offset + SceneData.SPRITE_Y, sprite.getFloat("y", 0));
+            records.putFloat(offset + SceneData.SPRITE_WIDTH, sprite.getFloat("width", 1));
+            records.putFloat(offset + SceneData.SPRITE_HEIGHT, sprite.getFloat("height", 1));
+            records.putFloat(offset + SceneData.RENDER_ORDER, sprite.getFloat("order", 0));
+        }
+    }
+}
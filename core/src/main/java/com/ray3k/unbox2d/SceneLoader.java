@@ -0,0 +1,91 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import dev.lyze.gdxUnBox2d.Box2dPhysicsWorld;
+import dev.lyze.gdxUnBox2d.GameObject;
+import dev.lyze.gdxUnBox2d.UnBox;
+import dev.lyze.gdxUnBox2d.behaviours.box2d.Box2dBehaviour;
+import dev.lyze.gdxUnBox2d.behaviours.box2d.fixtures.CreateBox2dBoxFixtureBehaviour;
+import dev.lyze.gdxUnBox2d.behaviours.box2d.fixtures.CreateBox2dCircleFixtureBehaviour;
+
+/**
+ * Creates the game objects, bodies, fixtures and sprites described by a {@link SceneData}. Does not require a GL
+ * context.
+ * <p>
+ * With render layers, sprites of entities without a body or with a static body never move and are baked into the
+ * layers without a sprite behaviour, entities without a body then get no game object at all. Other sprites get a
+ * {@link CachedSpriteBehaviour} that renders through the layers. When the scene is loaded into a {@link SceneInstance},
+ * its baked sprites form one {@link StaticGroup}, so removing the scene again does not rebuild other baked sprites.
+ */
+public class SceneLoader {
+    private SceneLoader() {
+    }
+
+    public static void load(SceneData scene, UnBox<Box2dPhysicsWorld> unBox, RegionProvider regions) {
+        load(scene, unBox, regions, null);
+    }
+
+    public static void load(SceneData scene, UnBox<Box2dPhysicsWorld> unBox, RegionProvider regions, RenderLayers renderLayers) {
+        load(scene, unBox, regions, renderLayers, null);
+    }
+
+    /** @param instance collects everything that is created so it can be destroyed later, may be null. */
+    public static void load(SceneData scene, UnBox<Box2dPhysicsWorld> unBox, RegionProvider regions, RenderLayers renderLayers,
+                            SceneInstance instance) {
+        for (int i = 0, n = scene.getEntityCount(); i < n; i++) {
+            BodyType bodyType = scene.getBodyType(i);
+            float x = scene.getX(i);
+            float y = scene.getY(i);
+
+            Sprite sprite = createSprite(scene, i, regions);
+            boolean bake = renderLayers != null && sprite != null && (bodyType == null || bodyType == BodyType.StaticBody);
+            if (bake) {
+                sprite.setPosition(x + scene.getSpriteX(i), y + scene.getSpriteY(i));
+                if (instance != null) instance.staticGroup.add(sprite, scene.getRenderOrder(i));
+                else renderLayers.addStatic(sprite, scene.getRenderOrder(i));
+                if (bodyType == null) continue;
+            }
+
+            GameObject gameObject = new GameObject(unBox);
+            if (instance != null) instance.gameObjects.add(gameObject);
+            if (bodyType != null) {
+                BodyDef bodyDef = new BodyDef();
+                bodyDef.type = bodyType;
+                bodyDef.position.set(x, y);
+                new Box2dBehaviour(bodyDef, gameObject);
+
+                switch (scene.getShape(i)) {
+                    case SceneData.SHAPE_BOX:
+                        new CreateBox2dBoxFixtureBehaviour(scene.getSizeA(i), scene.getSizeB(i), gameObject);
+                        break;
+                    case SceneData.SHAPE_CIRCLE:
+                        new CreateBox2dCircleFixtureBehaviour(scene.getSizeA(i), gameObject);
+                        break;
+                }
+            }
+
+            if (sprite != null && !bake) {
+                // Without a body the sprite is placed at its offset, so the offset has to include the position
+                float offsetX = scene.getSpriteX(i) + (bodyType == null ? x : 0);
+                float offsetY = scene.getSpriteY(i) + (bodyType == null ? y : 0);
+                CachedSpriteBehaviour spriteBehaviour = new CachedSpriteBehaviour(gameObject, offsetX, offsetY, sprite, scene.getRenderOrder(i));
+                spriteBehaviour.setRenderLayers(renderLayers);
+            }
+        }
+
+        if (instance != null && instance.staticGroup.size() > 0) renderLayers.addStatic(instance.staticGroup);
+    }
+
+    private static Sprite createSprite(SceneData scene, int entity, RegionProvider regions) {
+        String region = scene.getRegion(entity);
+        if (region == null) return null;
+
+        Sprite sprite = new Sprite(regions.findRegion(region));
+        sprite.setSize(scene.getSpriteWidth(entity), scene.getSpriteHeight(entity));
+        sprite.setOriginCenter();
+        sprite.flip(scene.isFlag(entity, SceneData.FLAG_FLIP_X), scene.isFlag(entity, SceneData.FLAG_FLIP_Y));
+        return sprite;
+    }
+}
@@ -0,0 +1,52 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.math.MathUtils;
+import dev.lyze.gdxUnBox2d.GameObject;
+
+/**
+ * A sprite behaviour that only touches its sprite when rendering and positions it from the published arrays of a
+ * {@link TransformSnapshot}. Nothing it draws is written by the fixed step, so it can render while a
+ * {@link PhysicsThread} steps the world. The sprite is not drawn until the snapshot with its body was published.
+ */
+public class SnapshotSpriteBehaviour extends CachedSpriteBehaviour {
+    private final TransformSnapshot snapshot;
+    private volatile int slot = -1;
+    private volatile int generation;
+
+    public SnapshotSpriteBehaviour(GameObject gameObject, float offsetX, float offsetY, Sprite sprite, float renderOrder,
+                                   TransformSnapshot snapshot) {
+        super(gameObject, offsetX, offsetY, sprite, renderOrder);
+        this.snapshot = snapshot;
+        setTransformSnapshot(snapshot);
+    }
+
+    @Override
+    public void start() {
+        super.start();
+        int slot = getSnapshotSlot();
+        if (slot != -1) generation = snapshot.getGeneration(slot);
+        this.slot = slot;
+    }
+
+    @Override
+    public void onDestroy() {
+        slot = -1;
+        super.onDestroy();
+    }
+
+    @Override
+    public void fixedUpdate() {
+    }
+
+    @Override
+    public void render(Batch batch) {
+        int slot = this.slot;
+        if (slot == -1 || !snapshot.isPublished(slot, generation)) return;
+
+        sprite.setPosition(snapshot.getPublishedX(slot) + offsetX, snapshot.getPublishedY(slot) + offsetY);
+        sprite.setRotation(snapshot.getPublishedAngle(slot) * MathUtils.radiansToDegrees);
+        sprite.draw(batch);
+    }
+}
@@ -0,0 +1,21 @@
+package com.ray3k.unbox2d;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A behaviour with state of its own that {@link WorldSnapshot} saves and restores along with the body of its game
+ * object. State that is derived from the body every step, like a sprite position, does not need to be saved.
+ */
+public interface Snapshotable {
+    /**
+     * @return the number of bytes written by {@link #saveState(ByteBuffer)}. A snapshot can only be restored while
+     * this is the same as when it was saved.
+     */
+    int getStateSize();
+
+    /** Writes the state at the position of the buffer. */
+    void saveState(ByteBuffer buffer);
+
+    /** Reads back what {@link #saveState(ByteBuffer)} wrote. Called outside of the world step. */
+    void restoreState(ByteBuffer buffer);
+}
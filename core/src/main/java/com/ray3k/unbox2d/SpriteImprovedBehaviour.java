@@ -23,6 +23,7 @@ public class SpriteImprovedBehaviour extends BehaviourAdapter {
 
     @Override
     public void fixedUpdate() {
+        if (RenderMode.isHeadless()) return;
         if (getGameObject().getBehaviour(Box2dBehaviour.class) != null)
             position.set(getGameObject().getBehaviour(Box2dBehaviour.class).getBody().getPosition());
         else position.setZero();
@@ -33,6 +34,7 @@ public class SpriteImprovedBehaviour extends BehaviourAdapter {
 
     @Override
     public void render(Batch batch) {
+        if (RenderMode.isHeadless()) return;
         sprite.draw(batch);
     }
 }
@@ -0,0 +1,31 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+
+/**
+ * Sprites that never move and are added to and removed from {@link RenderLayers} together, such as the static sprites
+ * of a streamed chunk. Each group is baked into a {@link SpriteCache} of its own, so adding or removing a group does
+ * not rebuild the sprites of the other groups.
+ */
+public class StaticGroup {
+    final Array<Sprite> sprites = new Array<>();
+    final FloatArray renderOrders = new FloatArray();
+    /** Built on the first render after the group was added, null while the group is not baked. */
+    SpriteCache spriteCache;
+
+    /**
+     * Adds a sprite to the layer with the given render order. The sprite is copied when the group is baked, later
+     * changes to it are ignored. Sprites can only be added before the group is added to the render layers.
+     */
+    public void add(Sprite sprite, float renderOrder) {
+        sprites.add(sprite);
+        renderOrders.add(renderOrder);
+    }
+
+    public int size() {
+        return sprites.size;
+    }
+}
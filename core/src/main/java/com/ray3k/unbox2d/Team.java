@@ -0,0 +1,46 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.physics.box2d.Filter;
+
+/**
+ * Maps teams onto the category and mask bits of Box2D collision filters. Fixtures of teams that never interact are
+ * rejected in the broadphase, so no contact or callback is created for them, and checking the team of a fixture in a
+ * callback is a bit test instead of a behaviour lookup.
+ * <p>
+ * {@link #WORLD} uses category 1, which is the Box2D default, so fixtures without a team count as world geometry.
+ */
+public enum Team {
+    WORLD, PLAYER, ENEMY, PLAYER_BULLET, ENEMY_BULLET;
+
+    public final short category = (short) (1 << ordinal());
+    private short mask;
+
+    static {
+        for (Team team : values()) collide(WORLD, team);
+        collide(PLAYER, ENEMY);
+        collide(PLAYER, ENEMY_BULLET);
+        collide(ENEMY, ENEMY);
+        collide(ENEMY, PLAYER_BULLET);
+    }
+
+    private static void collide(Team a, Team b) {
+        a.mask |= b.category;
+        b.mask |= a.category;
+    }
+
+    /** @return the categories this team collides with. */
+    public short getMask() {
+        return mask;
+    }
+
+    /** Sets the category and mask bits of the filter to the ones of this team. */
+    public void apply(Filter filter) {
+        filter.categoryBits = category;
+        filter.maskBits = mask;
+    }
+
+    /** @return true if the given category bits, for example of the other fixture of a contact, include this team. */
+    public boolean matches(short categoryBits) {
+        return (categoryBits & category) != 0;
+    }
+}
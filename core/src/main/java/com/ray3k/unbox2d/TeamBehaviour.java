@@ -0,0 +1,41 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.Filter;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.utils.Array;
+import dev.lyze.gdxUnBox2d.GameObject;
+import dev.lyze.gdxUnBox2d.behaviours.BehaviourAdapter;
+import dev.lyze.gdxUnBox2d.behaviours.box2d.Box2dBehaviour;
+
+/**
+ * Applies the collision filter of a {@link Team} to every fixture of the body when the behaviour starts. Add it after
+ * the behaviours that create the fixtures.
+ */
+public class TeamBehaviour extends BehaviourAdapter {
+    private final Team team;
+
+    public TeamBehaviour(Team team, GameObject gameObject) {
+        super(gameObject);
+        this.team = team;
+    }
+
+    @Override
+    public void start() {
+        Box2dBehaviour box2dBehaviour = getGameObject().getBehaviour(Box2dBehaviour.class);
+        if (box2dBehaviour == null) return;
+
+        Body body = box2dBehaviour.getBody();
+        Array<Fixture> fixtures = body.getFixtureList();
+        for (int i = 0, n = fixtures.size; i < n; i++) {
+            Fixture fixture = fixtures.get(i);
+            Filter filter = fixture.getFilterData();
+            team.apply(filter);
+            fixture.setFilterData(filter);
+        }
+    }
+
+    public Team getTeam() {
+        return team;
+    }
+}
@@ -0,0 +1,27 @@
+package com.ray3k.unbox2d;
+
+import dev.lyze.gdxUnBox2d.Behaviour;
+import dev.lyze.gdxUnBox2d.GameObject;
+
+/**
+ * Destroys the game object when it touches a fixture of the hostile team. Unlike PlayerCollisionImprovedBehaviour this
+ * checks the filter bits of the contact instead of looking up a behaviour on the other game object.
+ */
+public class TeamCollisionBehaviour extends BufferedCollisionBehaviour {
+    private final Team hostile;
+
+    public TeamCollisionBehaviour(Team hostile, GameObject gameObject) {
+        this(hostile, null, gameObject);
+    }
+
+    /** Destroys the game object when the buffered contacts are dispatched instead of during the world step. */
+    public TeamCollisionBehaviour(Team hostile, ContactEventBuffer buffer, GameObject gameObject) {
+        super(buffer, gameObject);
+        this.hostile = hostile;
+    }
+
+    @Override
+    protected void onBufferedCollisionEnter(Behaviour other, short category) {
+        if (hostile.matches(category)) destroyGameObject();
+    }
+}
@@ -0,0 +1,8 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.graphics.Texture;
+
+/** Implemented by behaviours that draw from a single texture, so {@link RenderLayers} can group them by it. */
+public interface Textured {
+    Texture getTexture();
+}
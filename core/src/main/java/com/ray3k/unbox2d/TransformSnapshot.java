@@ -0,0 +1,172 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.Transform;
+import com.badlogic.gdx.utils.IntArray;
+import dev.lyze.gdxUnBox2d.GameObject;
+import dev.lyze.gdxUnBox2d.behaviours.BehaviourAdapter;
+
+/**
+ * Copies the position and angle of registered bodies into flat float arrays once per fixed step. Behaviours read the
+ * transform of their body by slot instead of calling {@link Body#getPosition()} and {@link Body#getAngle()}, which
+ * cross into native code separately. Each moving body costs a single {@link Body#getTransform()} call per step, static
+ * bodies are only read when they are registered.
+ * <p>
+ * The snapshot is taken in {@link #fixedUpdate()}, so it holds the same state behaviours would have read from the
+ * bodies directly. Create its game object before the ones that read from it.
+ * <p>
+ * When the world is stepped on a {@link PhysicsThread}, {@link #publish()} copies the snapshot into a second set of
+ * arrays while the physics thread is idle. The render thread reads only the published arrays, so it can draw the last
+ * complete step while the physics thread captures the next one.
+ */
+public class TransformSnapshot extends BehaviourAdapter {
+    private Body[] bodies = new Body[64];
+    private boolean[] moving = new boolean[64];
+    private float[] x = new float[64];
+    private float[] y = new float[64];
+    private float[] angle = new float[64];
+    private int[] generations = new int[64];
+    private float[] publishedX = new float[0];
+    private float[] publishedY = new float[0];
+    private float[] publishedAngle = new float[0];
+    private int[] publishedGenerations = new int[0];
+    private int publishedSize;
+    private final IntArray freeSlots = new IntArray();
+    private int size;
+
+    public TransformSnapshot(GameObject gameObject) {
+        super(gameObject);
+    }
+
+    @Override
+    public void fixedUpdate() {
+        capture();
+    }
+
+    /** @return the slot the transform of the body is stored at until it is unregistered. */
+    public int register(Body body) {
+        int slot;
+        if (freeSlots.size > 0) slot = freeSlots.pop();
+        else {
+            if (size == bodies.length) grow();
+            slot = size++;
+        }
+
+        bodies[slot] = body;
+        moving[slot] = body.getType() != BodyType.StaticBody;
+        generations[slot]++;
+        read(slot);
+        return slot;
+    }
+
+    /** Frees the slot. Has to be called before the body is destroyed. */
+    public void unregister(int slot) {
+        bodies[slot] = null;
+        moving[slot] = false;
+        freeSlots.add(slot);
+    }
+
+    /** Reads the transforms of all registered bodies that are not static. */
+    public void capture() {
+        boolean[] moving = this.moving;
+        for (int i = 0, n = size; i < n; i++) {
+            if (moving[i]) read(i);
+        }
+    }
+
+    /**
+     * Copies the current snapshot to the published arrays. Must be called while nothing captures or registers bodies,
+     * for example after {@link PhysicsThread#pollStep()} returned true and before the next
+     * {@link PhysicsThread#startStep(float)}.
+     */
+    public void publish() {
+        if (publishedX.length < size) {
+            publishedX = new float[bodies.length];
+            publishedY = new float[bodies.length];
+            publishedAngle = new float[bodies.length];
+            publishedGenerations = new int[bodies.length];
+        }
+        System.arraycopy(x, 0, publishedX, 0, size);
+        System.arraycopy(y, 0, publishedY, 0, size);
+        System.arraycopy(angle, 0, publishedAngle, 0, size);
+        System.arraycopy(generations, 0, publishedGenerations, 0, size);
+        publishedSize = size;
+    }
+
+    /**
+     * @param generation the value of {@link #getGeneration(int)} when the slot was registered.
+     * @return true if the published arrays hold the transform of the body the slot was registered for.
+     */
+    public boolean isPublished(int slot, int generation) {
+        return slot < publishedSize && publishedGenerations[slot] == generation;
+    }
+
+    public float getPublishedX(int slot) {
+        return publishedX[slot];
+    }
+
+    public float getPublishedY(int slot) {
+        return publishedY[slot];
+    }
+
+    public float getPublishedAngle(int slot) {
+        return publishedAngle[slot];
+    }
+
+    /** @return a number that changes every time the slot is registered to a body. */
+    public int getGeneration(int slot) {
+        return generations[slot];
+    }
+
+    public float getX(int slot) {
+        return x[slot];
+    }
+
+    public float getY(int slot) {
+        return y[slot];
+    }
+
+    /** @return the angle in radians. */
+    public float getAngle(int slot) {
+        return angle[slot];
+    }
+
+    /** @return the number of registered bodies. */
+    public int size() {
+        return size - freeSlots.size;
+    }
+
+    private void read(int slot) {
+        Transform transform = bodies[slot].getTransform();
+        float[] vals = transform.vals;
+        x[slot] = vals[Transform.POS_X];
+        y[slot] = vals[Transform.POS_Y];
+        angle[slot] = transform.getRotation();
+    }
+
+    private void grow() {
+        int capacity = bodies.length * 2;
+        Body[] newBodies = new Body[capacity];
+        System.arraycopy(bodies, 0, newBodies, 0, size);
+        bodies = newBodies;
+
+        boolean[] newMoving = new boolean[capacity];
+        System.arraycopy(moving, 0, newMoving, 0, size);
+        moving = newMoving;
+
+        x = copyOf(x, capacity);
+        y = copyOf(y, capacity);
+        angle = copyOf(angle, capacity);
+
+        int[] newGenerations = new int[capacity];
+        System.arraycopy(generations, 0, newGenerations, 0, size);
+        generations = newGenerations;
+    }
+
+    private float[] copyOf(float[] array, int capacity) {
+        float[] newArray = new float[capacity];
+        System.arraycopy(array, 0, newArray, 0, size);
+        return newArray;
+    }
+}
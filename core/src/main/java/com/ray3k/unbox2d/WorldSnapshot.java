@@ -0,0 +1,190 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+import dev.lyze.gdxUnBox2d.GameObject;
+import dev.lyze.gdxUnBox2d.behaviours.box2d.Box2dBehaviour;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Saves and restores the state of tracked game objects in a compact binary form: whether the game object is enabled,
+ * the transform, velocities, awake and active flags of its body and the state of its {@link Snapshotable} behaviours.
+ * UnBox cannot list or rebuild game objects, so a snapshot is restored into the same tracked game objects it was saved
+ * from. Spawn from a prewarmed {@link GameObjectPool} instead of creating and destroying game objects and track the
+ * pool as well, then spawning and despawning is part of the snapshot. Static bodies that never move do not need to be
+ * tracked.
+ * <p>
+ * Every record has the same size, so {@link #getSize()} can be allocated once and reused, for example as a ring of
+ * buffers for rollback. Saving and restoring do not allocate. Box2D does not expose its contact cache, so a restored
+ * world may step slightly differently from the original for the first steps while resting contacts are rebuilt.
+ * <p>
+ * Layout, little endian: a header of magic, version and game object count as ints, then one record per game object
+ * of a flags byte, x, y, angle, linear velocity x and y and angular velocity as floats, followed by the state of its
+ * snapshotable behaviours in the order they were given.
+ */
+public class WorldSnapshot {
+    public static final int MAGIC = 0x55425753;
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 12;
+    public static final int BODY_SIZE = 24;
+
+    private static final byte ENABLED = 1, HAS_BODY = 2, AWAKE = 4, ACTIVE = 8;
+
+    private final Array<Entry> entries = new Array<>();
+    private long saveNanos;
+    private long restoreNanos;
+
+    /** Adds state that does not belong to a game object, such as a {@link GameObjectPool}, to every snapshot. */
+    public void track(Snapshotable... states) {
+        track(null, states);
+    }
+
+    /** Adds the game object and the given behaviours of it to every snapshot taken from now on. */
+    public void track(GameObject gameObject, Snapshotable... states) {
+        entries.add(new Entry(gameObject, states));
+    }
+
+    public void untrack(GameObject gameObject) {
+        for (int i = 0; i < entries.size; i++) {
+            if (entries.get(i).gameObject == gameObject) {
+                entries.removeIndex(i);
+                return;
+            }
+        }
+    }
+
+    /** @return the number of bytes a snapshot of the tracked game objects takes. */
+    public int getSize() {
+        int size = HEADER_SIZE;
+        for (int i = 0, n = entries.size; i < n; i++) {
+            size += 1 + BODY_SIZE;
+            for (Snapshotable state : entries.get(i).states) size += state.getStateSize();
+        }
+        return size;
+    }
+
+    /** @return the number of tracked game objects. */
+    public int getTracked() {
+        return entries.size;
+    }
+
+    /**
+     * Writes a snapshot at the position of the buffer, which needs {@link #getSize()} bytes remaining. The byte order
+     * of the buffer is set to little endian. Call it outside of the world step.
+     */
+    public void save(ByteBuffer buffer) {
+        long start = TimeUtils.nanoTime();
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(entries.size);
+
+        for (int i = 0, n = entries.size; i < n; i++) {
+            Entry entry = entries.get(i);
+            Body body = entry.getBody();
+            byte flags = entry.gameObject != null && entry.gameObject.isEnabled() ? ENABLED : 0;
+            if (body == null) {
+                buffer.put(flags);
+                buffer.position(buffer.position() + BODY_SIZE);
+            } else {
+                flags |= HAS_BODY;
+                if (body.isAwake()) flags |= AWAKE;
+                if (body.isActive()) flags |= ACTIVE;
+                buffer.put(flags);
+
+                Vector2 position = body.getPosition();
+                buffer.putFloat(position.x).putFloat(position.y).putFloat(body.getAngle());
+                Vector2 velocity = body.getLinearVelocity();
+                buffer.putFloat(velocity.x).putFloat(velocity.y).putFloat(body.getAngularVelocity());
+            }
+
+            for (Snapshotable state : entry.states) state.saveState(buffer);
+        }
+        saveNanos = TimeUtils.nanoTime() - start;
+    }
+
+    /**
+     * Restores the snapshot at the position of the buffer. The tracked game objects have to be the same, in the same
+     * order, as when it was saved. Call it outside of the world step, Box2D bodies cannot be changed while it runs.
+     */
+    public void restore(ByteBuffer buffer) {
+        long start = TimeUtils.nanoTime();
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.getInt() != MAGIC) throw new GdxRuntimeException("Not a world snapshot.");
+        int version = buffer.getInt();
+        if (version != VERSION) throw new GdxRuntimeException("Unsupported world snapshot version: " + version);
+        int count = buffer.getInt();
+        if (count != entries.size) {
+            throw new GdxRuntimeException("The snapshot has " + count + " game objects, " + entries.size
+                    + " are tracked.");
+        }
+
+        for (int i = 0; i < count; i++) {
+            Entry entry = entries.get(i);
+            byte flags = buffer.get();
+            GameObject gameObject = entry.gameObject;
+            boolean enabled = (flags & ENABLED) != 0;
+            if (gameObject != null && gameObject.isEnabled() != enabled) gameObject.setEnabled(enabled);
+
+            Body body = entry.getBody();
+            if ((flags & HAS_BODY) == 0 || body == null) buffer.position(buffer.position() + BODY_SIZE);
+            else {
+                boolean active = (flags & ACTIVE) != 0;
+                if (body.isActive() != active) body.setActive(active);
+                body.setTransform(buffer.getFloat(), buffer.getFloat(), buffer.getFloat());
+                // Putting a body to sleep clears its velocities, so the velocities are set afterwards
+                body.setAwake((flags & AWAKE) != 0);
+                body.setLinearVelocity(buffer.getFloat(), buffer.getFloat());
+                body.setAngularVelocity(buffer.getFloat());
+            }
+
+            for (Snapshotable state : entry.states) state.restoreState(buffer);
+        }
+        restoreNanos = TimeUtils.nanoTime() - start;
+    }
+
+    /** Saves a snapshot to a file, for quick saves. Allocates a buffer of {@link #getSize()} bytes. */
+    public void save(FileHandle file) {
+        ByteBuffer buffer = ByteBuffer.allocate(getSize());
+        save(buffer);
+        file.writeBytes(buffer.array(), false);
+    }
+
+    public void restore(FileHandle file) {
+        restore(ByteBuffer.wrap(file.readBytes()));
+    }
+
+    /** @return how long the last save took in nanoseconds. */
+    public long getLastSaveNanos() {
+        return saveNanos;
+    }
+
+    /** @return how long the last restore took in nanoseconds. */
+    public long getLastRestoreNanos() {
+        return restoreNanos;
+    }
+
+    private static class Entry {
+        private final GameObject gameObject;
+        private final Snapshotable[] states;
+        private Body body;
+
+        private Entry(GameObject gameObject, Snapshotable[] states) {
+            this.gameObject = gameObject;
+            this.states = states;
+        }
+
+        /** The body is created when the Box2dBehaviour wakes up, so it is looked up until there is one. */
+        private Body getBody() {
+            if (body == null && gameObject != null) {
+                Box2dBehaviour box2dBehaviour = gameObject.getBehaviour(Box2dBehaviour.class);
+                if (box2dBehaviour != null) body = box2dBehaviour.getBody();
+            }
+            return body;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.LongMap;
+import dev.lyze.gdxUnBox2d.Box2dPhysicsWorld;
+import dev.lyze.gdxUnBox2d.GameObject;
+import dev.lyze.gdxUnBox2d.UnBox;
+import dev.lyze.gdxUnBox2d.behaviours.BehaviourAdapter;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Keeps only the chunks of a large level around the focus point in the world. The level is split into square chunks
+ * that are each described by a scene. Reading and decoding the scenes happens on a background thread. Box2D is not
+ * thread safe, so the bodies are created on the game thread in {@link #update(float)}, after the fixed steps of the
+ * frame, and at most {@link #setChunksPerFrame(int) a few chunks} per frame to avoid hitches.
+ * <p>
+ * Chunks are loaded within the load radius around the chunk of the focus and unloaded once they are one chunk further
+ * away, so moving back and forth over a chunk border does not reload chunks. The static sprites of each chunk are baked
+ * into a {@link StaticGroup} of their own, so loading or unloading a chunk leaves the baked sprites of the other chunks
+ * alone. Not available on GWT.
+ */
+public class WorldStreamer extends BehaviourAdapter implements Disposable {
+    /** Provides the scene of a chunk. Called on the background thread. */
+    public interface ChunkSource {
+        /** @return the scene of the chunk or null if the chunk is empty. */
+        SceneData load(int chunkX, int chunkY);
+    }
+
+    private final UnBox<Box2dPhysicsWorld> unBox;
+    private final ChunkSource source;
+    private final float chunkSize;
+    private final int loadRadius;
+    private final RegionProvider regions;
+    private final RenderLayers renderLayers;
+    private final LongMap<Chunk> chunks = new LongMap<>();
+    private final ConcurrentLinkedQueue<Chunk> loaded = new ConcurrentLinkedQueue<>();
+    private final Array<Chunk> unloading = new Array<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "World streamer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private float focusX, focusY;
+    private int chunksPerFrame = 2;
+
+    /**
+     * @param loadRadius the number of chunks around the chunk of the focus that are kept loaded.
+     * @param renderLayers the layers static sprites are baked into, may be null.
+     */
+    public WorldStreamer(UnBox<Box2dPhysicsWorld> unBox, ChunkSource source, float chunkSize, int loadRadius,
+                         RegionProvider regions, RenderLayers renderLayers, GameObject gameObject) {
+        super(gameObject);
+        this.unBox = unBox;
+        this.source = source;
+        this.chunkSize = chunkSize;
+        this.loadRadius = loadRadius;
+        this.regions = regions;
+        this.renderLayers = renderLayers;
+    }
+
+    /**
+     * A chunk source that reads {@code <chunkX>_<chunkY>.scene} files in the binary scene format from the directory,
+     * or {@code <chunkX>_<chunkY>.json} when there is no binary file.
+     */
+    public static ChunkSource directory(FileHandle directory) {
+        return (chunkX, chunkY) -> {
+            String name = chunkX + "_" + chunkY;
+            FileHandle file = directory.child(name + ".scene");
+            if (file.exists()) return SceneBinary.load(file);
+
+            file = directory.child(name + ".json");
+            return file.exists() ? SceneJson.load(file) : null;
+        };
+    }
+
+    /** Sets the point chunks are loaded around, usually the camera position. */
+    public void setFocus(float x, float y) {
+        focusX = x;
+        focusY = y;
+    }
+
+    /** Sets how many loaded chunks are turned into game objects per frame at most. */
+    public void setChunksPerFrame(int chunksPerFrame) {
+        this.chunksPerFrame = chunksPerFrame;
+    }
+
+    @Override
+    public void update(float delta) {
+        int centerX = MathUtils.floor(focusX / chunkSize);
+        int centerY = MathUtils.floor(focusY / chunkSize);
+
+        for (int x = centerX - loadRadius; x <= centerX + loadRadius; x++) {
+            for (int y = centerY - loadRadius; y <= centerY + loadRadius; y++) {
+                long key = key(x, y);
+                if (chunks.containsKey(key)) continue;
+
+                Chunk chunk = new Chunk(x, y);
+                chunks.put(key, chunk);
+                executor.execute(() -> {
+                    try {
+                        chunk.scene = source.load(chunk.x, chunk.y);
+                    } catch (RuntimeException e) {
+                        Log.error("WorldStreamer", "Failed to load chunk ", e);
+                    }
+                    loaded.add(chunk);
+                });
+            }
+        }
+
+        int unloadRadius = loadRadius + 1;
+        for (Chunk chunk : chunks.values()) {
+            if (Math.abs(chunk.x - centerX) > unloadRadius || Math.abs(chunk.y - centerY) > unloadRadius)
+                unloading.add(chunk);
+        }
+        for (int i = 0, n = unloading.size; i < n; i++) {
+            Chunk chunk = unloading.get(i);
+            chunks.remove(key(chunk.x, chunk.y));
+            // A chunk that is still loading is dropped once it arrives
+            if (chunk.instance != null) chunk.instance.destroy(renderLayers);
+        }
+        unloading.clear();
+
+        for (int i = 0; i < chunksPerFrame; i++) {
+            Chunk chunk = loaded.poll();
+            if (chunk == null) break;
+            if (chunks.get(key(chunk.x, chunk.y)) != chunk || chunk.scene == null) continue;
+
+            chunk.instance = new SceneInstance();
+            SceneLoader.load(chunk.scene, unBox, regions, renderLayers, chunk.instance);
+            chunk.scene = null;
+        }
+    }
+
+    /** @return the number of chunks that are loaded or loading. */
+    public int getChunkCount() {
+        return chunks.size;
+    }
+
+    @Override
+    public void onDestroy() {
+        dispose();
+    }
+
+    @Override
+    public void dispose() {
+        executor.shutdownNow();
+    }
+
+    private static long key(int x, int y) {
+        return (long) x << 32 | y & 0xFFFFFFFFL;
+    }
+
+    private static class Chunk {
+        private final int x, y;
+        /** Written by the background thread, read after the chunk was taken from the loaded queue. */
+        private volatile SceneData scene;
+        private SceneInstance instance;
+
+        private Chunk(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+}
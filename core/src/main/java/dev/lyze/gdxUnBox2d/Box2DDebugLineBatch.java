@@ -0,0 +1,90 @@
+package dev.lyze.gdxUnBox2d;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.glutils.ImmediateModeRenderer20;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Collects colored lines into a single vertex buffer and draws them with one GL_LINES call on {@link #end()}. Used by
+ * {@link Box2DDebugShapeDrawer} so the debug overlay costs the same number of draw calls regardless of the number of
+ * bodies. Lines are always one pixel wide. When more lines are added than fit into the buffer, it is flushed early.
+ */
+public class Box2DDebugLineBatch implements Disposable {
+    private final ImmediateModeRenderer20 renderer;
+    private final Matrix4 projectionMatrix = new Matrix4();
+    private float color = Color.WHITE.toFloatBits();
+    private float pixelSize = 1;
+    private boolean drawing;
+
+    /** number of draw calls issued between the last begin and end **/
+    public int renderCalls;
+
+    public Box2DDebugLineBatch() {
+        this(20000);
+    }
+
+    public Box2DDebugLineBatch(int maxLines) {
+        renderer = new ImmediateModeRenderer20(maxLines * 2, false, true, 0);
+    }
+
+    public void begin() {
+        if (drawing) throw new IllegalStateException("Box2DDebugLineBatch.end must be called before begin.");
+        renderCalls = 0;
+        renderer.begin(projectionMatrix, GL20.GL_LINES);
+        drawing = true;
+    }
+
+    public void end() {
+        if (!drawing) throw new IllegalStateException("Box2DDebugLineBatch.begin must be called before end.");
+        flush();
+        drawing = false;
+    }
+
+    public void line(float x1, float y1, float x2, float y2) {
+        if (renderer.getNumVertices() + 2 > renderer.getMaxVertices()) {
+            flush();
+            renderer.begin(projectionMatrix, GL20.GL_LINES);
+        }
+        renderer.color(color);
+        renderer.vertex(x1, y1, 0);
+        renderer.color(color);
+        renderer.vertex(x2, y2, 0);
+    }
+
+    private void flush() {
+        if (renderer.getNumVertices() > 0) renderCalls++;
+        renderer.end();
+    }
+
+    public void setColor(Color color) {
+        this.color = color.toFloatBits();
+    }
+
+    public void setColor(float r, float g, float b, float a) {
+        color = Color.toFloatBits(r, g, b, a);
+    }
+
+    public void setProjectionMatrix(Matrix4 projection) {
+        projectionMatrix.set(projection);
+    }
+
+    /** @return the size of a screen pixel in world units, used to size circles and contact points. */
+    public float getPixelSize() {
+        return pixelSize;
+    }
+
+    public void setPixelSize(float pixelSize) {
+        this.pixelSize = pixelSize;
+    }
+
+    public boolean isDrawing() {
+        return drawing;
+    }
+
+    @Override
+    public void dispose() {
+        renderer.dispose();
+    }
+}
@@ -16,29 +16,56 @@
 
 package dev.lyze.gdxUnBox2d;
 
+import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.physics.box2d.*;
 import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
 import com.badlogic.gdx.physics.box2d.JointDef.JointType;
 import com.badlogic.gdx.physics.box2d.Shape.Type;
 import com.badlogic.gdx.physics.box2d.joints.PulleyJoint;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectSet;
 import space.earlygrey.shapedrawer.ShapeDrawer;
 
-import java.util.Iterator;
-
 /**
- * An alternative to {@link Box2DDebugRenderer Box2DDebugRenderer} that implements {@link ShapeDrawer}
+ * An alternative to {@link Box2DDebugRenderer Box2DDebugRenderer} that implements {@link ShapeDrawer}. It can also draw
+ * through a {@link Box2DDebugLineBatch}, which puts every line into one vertex buffer and flushes it in a single draw
+ * call.
  */
 public class Box2DDebugShapeDrawer {
 
     /** the immediate mode renderer to output our debug drawings **/
     protected ShapeDrawer shapeDrawer;
 
+    /** the line batch used instead of the shape drawer, if any **/
+    protected Box2DDebugLineBatch lineBatch;
+
     /** vertices for polygon rendering **/
     private final static Vector2[] vertices = new Vector2[1000];
 
+    static {
+        for (int i = 0; i < vertices.length; i++)
+            vertices[i] = new Vector2();
+    }
+
+    /** cosine and sine of evenly spaced angles around the unit circle, shared by all circles **/
+    private final static int MAX_CIRCLE_SEGMENTS = 64;
+    private final static int MIN_CIRCLE_SEGMENTS = 4;
+    private final static float[] circleCos = new float[MAX_CIRCLE_SEGMENTS];
+    private final static float[] circleSin = new float[MAX_CIRCLE_SEGMENTS];
+
+    static {
+        for (int i = 0; i < MAX_CIRCLE_SEGMENTS; i++) {
+            double angle = 2 * Math.PI * i / MAX_CIRCLE_SEGMENTS;
+            circleCos[i] = (float)Math.cos(angle);
+            circleSin[i] = (float)Math.sin(angle);
+        }
+    }
+
     private final static Vector2 lower = new Vector2();
     private final static Vector2 upper = new Vector2();
 
@@ -52,11 +79,42 @@ public class Box2DDebugShapeDrawer {
     private boolean drawVelocities;
     private boolean drawContacts;
 
+    /** state of the last culled render **/
+    private final Rectangle cullBounds = new Rectangle();
+    private final ObjectSet<Body> visibleBodies = new ObjectSet<Body>();
+    private int culledBodies;
+    private int culledJoints;
+    private int culledContacts;
+
+    private final QueryCallback cullCallback = new QueryCallback() {
+        @Override
+        public boolean reportFixture (Fixture fixture) {
+            // the first reported fixture of a body draws all of them, so colors and transforms are fetched once
+            Body body = fixture.getBody();
+            if (visibleBodies.add(body)) renderBody(body);
+            return true;
+        }
+    };
 
     public Box2DDebugShapeDrawer(ShapeDrawer shapeDrawer) {
         this(shapeDrawer, true, true, false, true, false, true);
     }
 
+    public Box2DDebugShapeDrawer(Box2DDebugLineBatch lineBatch) {
+        this(lineBatch, true, true, false, true, false, true);
+    }
+
+    /**
+     * Draws everything into the given line batch. Set its {@link Box2DDebugLineBatch#setProjectionMatrix(com.badlogic.gdx.math.Matrix4) projection matrix}
+     * and {@link Box2DDebugLineBatch#setPixelSize(float) pixel size} to match your viewport. The render methods begin
+     * and end the batch themselves, so it is drawn with a single call per render.
+     */
+    public Box2DDebugShapeDrawer(Box2DDebugLineBatch lineBatch, boolean drawBodies, boolean drawJoints, boolean drawAABBs, boolean drawInactiveBodies,
+                                 boolean drawVelocities, boolean drawContacts) {
+        this((ShapeDrawer)null, drawBodies, drawJoints, drawAABBs, drawInactiveBodies, drawVelocities, drawContacts);
+        this.lineBatch = lineBatch;
+    }
+
     /**
      * Ensure that the ShapeDrawer passed to this class has an appropriate {@link ShapeDrawer#setDefaultLineWidth(float) defaultLineWidth} and {@link ShapeDrawer#setPixelSize(float) pixelSize} to match your viewport settings. The width of the circle used to display contacts is 2 * defaultLineWidth.
      * @param shapeDrawer
@@ -72,10 +130,6 @@ public class Box2DDebugShapeDrawer {
         // next we setup the immediate mode renderer
         this.shapeDrawer = shapeDrawer;
 
-        // initialize vertices array
-        for (int i = 0; i < vertices.length; i++)
-            vertices[i] = new Vector2();
-
         this.drawBodies = drawBodies;
         this.drawJoints = drawJoints;
         this.drawAABBs = drawAABBs;
@@ -86,7 +140,91 @@ public class Box2DDebugShapeDrawer {
 
     /** This assumes that the projection matrix has already been set. */
     public void render (World world) {
+        if (lineBatch != null) lineBatch.begin();
         renderBodies(world);
+        if (lineBatch != null) lineBatch.end();
+    }
+
+    /**
+     * Only draws what is inside the frustum of the camera. The frustum is projected onto the xy plane, which is exact for
+     * the orthographic cameras used with Box2D. A line batch is given the combined matrix of the camera.
+     * @see #render(World, Rectangle)
+     */
+    public void render (World world, Camera camera) {
+        if (lineBatch != null) lineBatch.setProjectionMatrix(camera.combined);
+
+        Vector3[] planePoints = camera.frustum.planePoints;
+        float minX = planePoints[0].x, minY = planePoints[0].y, maxX = minX, maxY = minY;
+        for (int i = 1; i < planePoints.length; i++) {
+            Vector3 point = planePoints[i];
+            minX = Math.min(minX, point.x);
+            minY = Math.min(minY, point.y);
+            maxX = Math.max(maxX, point.x);
+            maxY = Math.max(maxY, point.y);
+        }
+        render(world, cullBounds.set(minX, minY, maxX - minX, maxY - minY));
+    }
+
+    /**
+     * Only draws the bodies with a fixture overlapping the given bounds, found with {@link World#QueryAABB}, and the
+     * joints and contacts attached to them. Inactive bodies are not part of the broad phase and are never drawn. The
+     * number of skipped bodies, joints and contacts is available afterwards through {@link #getCulledBodies()},
+     * {@link #getCulledJoints()} and {@link #getCulledContacts()}. This assumes that the projection matrix has already
+     * been set.
+     */
+    public void render (World world, Rectangle bounds) {
+        if (lineBatch != null) lineBatch.begin();
+        renderCulled(world, bounds);
+        if (lineBatch != null) lineBatch.end();
+    }
+
+    private void renderCulled (World world, Rectangle bounds) {
+        visibleBodies.clear();
+        // bodies are collected even when they are not drawn because joints and contacts are culled by them
+        if (drawBodies || drawAABBs || drawJoints || drawContacts)
+            world.QueryAABB(cullCallback, bounds.x, bounds.y, bounds.x + bounds.width, bounds.y + bounds.height);
+        culledBodies = world.getBodyCount() - visibleBodies.size;
+
+        culledJoints = 0;
+        if (drawJoints) {
+            world.getJoints(joints);
+            for (int i = 0, n = joints.size; i < n; i++) {
+                Joint joint = joints.get(i);
+                if (visibleBodies.contains(joint.getBodyA()) || visibleBodies.contains(joint.getBodyB())) drawJoint(joint);
+                else culledJoints++;
+            }
+        } else culledJoints = world.getJointCount();
+
+        culledContacts = 0;
+        if (drawContacts) {
+            Array<Contact> contacts = world.getContactList();
+            for (int i = 0, n = contacts.size; i < n; i++) {
+                Contact contact = contacts.get(i);
+                if (visibleBodies.contains(contact.getFixtureA().getBody())
+                        || visibleBodies.contains(contact.getFixtureB().getBody())) drawContact(contact);
+                else culledContacts++;
+            }
+        } else culledContacts = world.getContactCount();
+    }
+
+    /** @return the number of bodies skipped by the last culled render */
+    public int getCulledBodies () {
+        return culledBodies;
+    }
+
+    /** @return the number of joints skipped by the last culled render */
+    public int getCulledJoints () {
+        return culledJoints;
+    }
+
+    /** @return the number of contacts skipped by the last culled render */
+    public int getCulledContacts () {
+        return culledContacts;
+    }
+
+    /** @return the number of bodies, joints and contacts skipped by the last culled render */
+    public int getCulledCount () {
+        return culledBodies + culledJoints + culledContacts;
     }
 
     public final Color SHAPE_NOT_ACTIVE = new Color(0.5f, 0.5f, 0.3f, 1);
@@ -98,42 +236,42 @@ public class Box2DDebugShapeDrawer {
     public final Color AABB_COLOR = new Color(1.0f, 0, 1.0f, 1f);
     public final Color VELOCITY_COLOR = new Color(1.0f, 0, 0f, 1f);
 
+    // The render path is allocation free: arrays are walked by index instead of through iterators and every
+    // intermediate vector is a reused field.
     private void renderBodies (World world) {
         if (drawBodies || drawAABBs) {
             world.getBodies(bodies);
-            for (Iterator<Body> iter = bodies.iterator(); iter.hasNext();) {
-                Body body = iter.next();
+            for (int i = 0, n = bodies.size; i < n; i++) {
+                Body body = bodies.get(i);
                 if (body.isActive() || drawInactiveBodies) renderBody(body);
             }
         }
 
         if (drawJoints) {
             world.getJoints(joints);
-            for (Iterator<Joint> iter = joints.iterator(); iter.hasNext();) {
-                Joint joint = iter.next();
-                drawJoint(joint);
-            }
+            for (int i = 0, n = joints.size; i < n; i++)
+                drawJoint(joints.get(i));
         }
         if (drawContacts) {
-            for (Contact contact : world.getContactList())
-                drawContact(contact);
+            Array<Contact> contacts = world.getContactList();
+            for (int i = 0, n = contacts.size; i < n; i++)
+                drawContact(contacts.get(i));
         }
     }
 
     protected void renderBody (Body body) {
         Transform transform = body.getTransform();
-        for (Fixture fixture : body.getFixtureList()) {
-            if (drawBodies) {
-                drawShape(fixture, transform, getColorByBody(body));
-                if (drawVelocities) {
-                    Vector2 position = body.getPosition();
-                    drawSegment(position, body.getLinearVelocity().add(position), VELOCITY_COLOR);
-                }
-            }
+        Color color = drawBodies ? getColorByBody(body) : null;
+        Array<Fixture> fixtures = body.getFixtureList();
+        for (int i = 0, n = fixtures.size; i < n; i++) {
+            Fixture fixture = fixtures.get(i);
+            if (drawBodies) drawShape(fixture, transform, color);
+            if (drawAABBs) drawAABB(fixture, transform);
+        }
 
-            if (drawAABBs) {
-                drawAABB(fixture, transform);
-            }
+        if (drawBodies && drawVelocities) {
+            Vector2 position = body.getPosition();
+            drawSegment(position, velocity.set(body.getLinearVelocity()).add(position), VELOCITY_COLOR);
         }
     }
 
@@ -151,7 +289,8 @@ public class Box2DDebugShapeDrawer {
     }
 
     private void drawAABB (Fixture fixture, Transform transform) {
-        if (fixture.getType() == Type.Circle) {
+        Type type = fixture.getType();
+        if (type == Type.Circle) {
 
             CircleShape shape = (CircleShape)fixture.getShape();
             float radius = shape.getRadius();
@@ -167,7 +306,7 @@ public class Box2DDebugShapeDrawer {
             vertices[3].set(lower.x, upper.y);
 
             drawSolidPolygon(vertices, 4, AABB_COLOR, true);
-        } else if (fixture.getType() == Type.Polygon) {
+        } else if (type == Type.Polygon) {
             PolygonShape shape = (PolygonShape)fixture.getShape();
             int vertexCount = shape.getVertexCount();
 
@@ -197,7 +336,8 @@ public class Box2DDebugShapeDrawer {
     private static Vector2 axis = new Vector2();
 
     private void drawShape (Fixture fixture, Transform transform, Color color) {
-        if (fixture.getType() == Type.Circle) {
+        Type type = fixture.getType();
+        if (type == Type.Circle) {
             CircleShape circle = (CircleShape)fixture.getShape();
             t.set(circle.getPosition());
             transform.mul(t);
@@ -205,7 +345,7 @@ public class Box2DDebugShapeDrawer {
             return;
         }
 
-        if (fixture.getType() == Type.Edge) {
+        if (type == Type.Edge) {
             EdgeShape edge = (EdgeShape)fixture.getShape();
             edge.getVertex1(vertices[0]);
             edge.getVertex2(vertices[1]);
@@ -215,7 +355,7 @@ public class Box2DDebugShapeDrawer {
             return;
         }
 
-        if (fixture.getType() == Type.Polygon) {
+        if (type == Type.Polygon) {
             PolygonShape chain = (PolygonShape)fixture.getShape();
             int vertexCount = chain.getVertexCount();
             for (int i = 0; i < vertexCount; i++) {
@@ -226,7 +366,7 @@ public class Box2DDebugShapeDrawer {
             return;
         }
 
-        if (fixture.getType() == Type.Chain) {
+        if (type == Type.Chain) {
             ChainShape chain = (ChainShape)fixture.getShape();
             int vertexCount = chain.getVertexCount();
             for (int i = 0; i < vertexCount; i++) {
@@ -240,60 +380,71 @@ public class Box2DDebugShapeDrawer {
     private final Vector2 f = new Vector2();
     private final Vector2 v = new Vector2();
     private final Vector2 lv = new Vector2();
+    private final Vector2 velocity = new Vector2();
 
     private void drawSolidCircle (Vector2 center, float radius, Vector2 axis, Color color) {
-        float angle = 0;
-        float angleInc = 2 * (float)Math.PI / 20;
-        shapeDrawer.setColor(color.r, color.g, color.b, color.a);
-        for (int i = 0; i < 20; i++, angle += angleInc) {
-            v.set((float)Math.cos(angle) * radius + center.x, (float)Math.sin(angle) * radius + center.y);
-            if (i == 0) {
-                lv.set(v);
-                f.set(v);
-                continue;
-            }
-            shapeDrawer.line(lv.x, lv.y, v.x, v.y);
+        setColor(color);
+        drawCircle(center.x, center.y, radius);
+        line(center.x, center.y, center.x + axis.x * radius, center.y + axis.y * radius);
+    }
+
+    private void drawCircle (float x, float y, float radius) {
+        int step = MAX_CIRCLE_SEGMENTS / getCircleSegments(radius);
+        f.set(circleCos[0] * radius + x, circleSin[0] * radius + y);
+        lv.set(f);
+        for (int i = step; i < MAX_CIRCLE_SEGMENTS; i += step) {
+            v.set(circleCos[i] * radius + x, circleSin[i] * radius + y);
+            line(lv.x, lv.y, v.x, v.y);
             lv.set(v);
         }
-        shapeDrawer.line(f.x, f.y, lv.x, lv.y);
-        shapeDrawer.line(center.x, center.y, center.x + axis.x * radius, center.y + axis.y * radius);
+        line(f.x, f.y, lv.x, lv.y);
+    }
+
+    /**
+     * Picks the number of segments for a circle from its radius on screen. The chord error of n segments is about
+     * r * (pi / n)^2 / 2, so pi * sqrt(r) segments keep it below half a pixel. The result is rounded up to a power of two
+     * to index the shared sine and cosine table.
+     */
+    protected int getCircleSegments (float radius) {
+        float radiusInPixels = radius / getPixelSize();
+        float segments = MathUtils.PI * (float)Math.sqrt(radiusInPixels);
+        int n = MIN_CIRCLE_SEGMENTS;
+        while (n < segments && n < MAX_CIRCLE_SEGMENTS)
+            n <<= 1;
+        return n;
     }
 
     private void drawSolidPolygon (Vector2[] vertices, int vertexCount, Color color, boolean closed) {
-        shapeDrawer.setColor(color.r, color.g, color.b, color.a);
+        setColor(color);
         lv.set(vertices[0]);
         f.set(vertices[0]);
         for (int i = 1; i < vertexCount; i++) {
             Vector2 v = vertices[i];
-            shapeDrawer.line(lv.x, lv.y, v.x, v.y);
+            line(lv.x, lv.y, v.x, v.y);
             lv.set(v);
         }
-        if (closed) shapeDrawer.line(f.x, f.y, lv.x, lv.y);
+        if (closed) line(f.x, f.y, lv.x, lv.y);
     }
 
     private void drawJoint (Joint joint) {
-        Body bodyA = joint.getBodyA();
-        Body bodyB = joint.getBodyB();
-        Transform xf1 = bodyA.getTransform();
-        Transform xf2 = bodyB.getTransform();
-
-        Vector2 x1 = xf1.getPosition();
-        Vector2 x2 = xf2.getPosition();
+        JointType type = joint.getType();
         Vector2 p1 = joint.getAnchorA();
         Vector2 p2 = joint.getAnchorB();
 
-        if (joint.getType() == JointType.DistanceJoint) {
+        if (type == JointType.DistanceJoint) {
             drawSegment(p1, p2, JOINT_COLOR);
-        } else if (joint.getType() == JointType.PulleyJoint) {
+        } else if (type == JointType.PulleyJoint) {
             PulleyJoint pulley = (PulleyJoint)joint;
             Vector2 s1 = pulley.getGroundAnchorA();
             Vector2 s2 = pulley.getGroundAnchorB();
             drawSegment(s1, p1, JOINT_COLOR);
             drawSegment(s2, p2, JOINT_COLOR);
             drawSegment(s1, s2, JOINT_COLOR);
-        } else if (joint.getType() == JointType.MouseJoint) {
-            drawSegment(joint.getAnchorA(), joint.getAnchorB(), JOINT_COLOR);
+        } else if (type == JointType.MouseJoint) {
+            drawSegment(p1, p2, JOINT_COLOR);
         } else {
+            Vector2 x1 = joint.getBodyA().getTransform().getPosition();
+            Vector2 x2 = joint.getBodyB().getTransform().getPosition();
             drawSegment(x1, p1, JOINT_COLOR);
             drawSegment(p1, p2, JOINT_COLOR);
             drawSegment(x2, p2, JOINT_COLOR);
@@ -301,16 +452,31 @@ public class Box2DDebugShapeDrawer {
     }
 
     private void drawSegment (Vector2 x1, Vector2 x2, Color color) {
-        shapeDrawer.setColor(color);
-        shapeDrawer.line(x1.x, x1.y, x2.x, x2.y);
+        setColor(color);
+        line(x1.x, x1.y, x2.x, x2.y);
     }
 
     private void drawContact (Contact contact) {
         WorldManifold worldManifold = contact.getWorldManifold();
         if (worldManifold.getNumberOfContactPoints() == 0) return;
         Vector2 point = worldManifold.getPoints()[0];
-        shapeDrawer.setColor(getColorByBody(contact.getFixtureA().getBody()));
-        shapeDrawer.circle(point.x, point.y, shapeDrawer.getDefaultLineWidth() * 2);
+        setColor(getColorByBody(contact.getFixtureA().getBody()));
+        if (lineBatch != null) drawCircle(point.x, point.y, lineBatch.getPixelSize() * 2);
+        else shapeDrawer.circle(point.x, point.y, shapeDrawer.getDefaultLineWidth() * 2);
+    }
+
+    private void setColor (Color color) {
+        if (lineBatch != null) lineBatch.setColor(color);
+        else shapeDrawer.setColor(color);
+    }
+
+    private void line (float x1, float y1, float x2, float y2) {
+        if (lineBatch != null) lineBatch.line(x1, y1, x2, y2);
+        else shapeDrawer.line(x1, y1, x2, y2);
+    }
+
+    private float getPixelSize () {
+        return lineBatch != null ? lineBatch.getPixelSize() : shapeDrawer.getPixelSize();
     }
 
     public boolean isDrawBodies () {
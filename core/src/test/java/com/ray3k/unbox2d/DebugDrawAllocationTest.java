@@ -0,0 +1,133 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.*;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.joints.DistanceJointDef;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import dev.lyze.gdxUnBox2d.Box2DDebugShapeDrawer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import space.earlygrey.shapedrawer.ShapeDrawer;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+/** Debug drawing a world of bodies, joints and contacts with every option on must not allocate once warmed up. */
+public class DebugDrawAllocationTest {
+    private static final int BODY_COUNT = 5000;
+    private static final int WARM_UP_RENDERS = 200;
+    private static final int RENDERS = 20;
+
+    private static com.sun.management.ThreadMXBean threads;
+
+    private World world;
+    private NullBatch batch;
+    private Box2DDebugShapeDrawer debugDrawer;
+
+    @BeforeClass
+    public static void loadNatives() {
+        GdxNativesLoader.load();
+
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) threads = (com.sun.management.ThreadMXBean) bean;
+    }
+
+    @Before
+    public void createWorld() {
+        assumeTrue(threads != null && threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        world = new World(new Vector2(0, 0), true);
+        CircleShape circle = new CircleShape();
+        circle.setRadius(.5f);
+        PolygonShape box = new PolygonShape();
+        box.setAsBox(.5f, .5f);
+
+        int columns = (int) Math.ceil(Math.sqrt(BODY_COUNT));
+        Body previous = null;
+        for (int i = 0; i < BODY_COUNT; i++) {
+            BodyDef bodyDef = new BodyDef();
+            bodyDef.type = i % 10 == 0 ? BodyType.StaticBody : BodyType.DynamicBody;
+            // Slightly overlapping neighbours keep contacts alive
+            bodyDef.position.set((i % columns) * .9f, (i / columns) * .9f);
+            bodyDef.linearVelocity.set(1, 0);
+            Body body = world.createBody(bodyDef);
+            body.createFixture(i % 2 == 0 ? circle : box, 1);
+
+            if (previous != null && i % 50 == 0) {
+                DistanceJointDef jointDef = new DistanceJointDef();
+                jointDef.initialize(previous, body, previous.getPosition(), body.getPosition());
+                world.createJoint(jointDef);
+            }
+            previous = body;
+        }
+        circle.dispose();
+        box.dispose();
+        world.step(1 / 60f, 6, 2);
+
+        batch = new NullBatch();
+        debugDrawer = new Box2DDebugShapeDrawer(new ShapeDrawer(batch, new TextureRegion()), true, true, true, true,
+                true, true);
+    }
+
+    @After
+    public void disposeWorld() {
+        if (world != null) world.dispose();
+    }
+
+    @Test
+    public void renderDoesNotAllocate() {
+        for (int i = 0; i < WARM_UP_RENDERS; i++) render(null);
+
+        long overhead = measureOverhead();
+        long start = allocatedBytes();
+        for (int i = 0; i < RENDERS; i++) render(null);
+        long allocated = allocatedBytes() - start - overhead;
+
+        assertTrue(batch.vertexCount > 0);
+        assertEquals("bytes allocated by " + RENDERS + " renders", 0, allocated);
+    }
+
+    @Test
+    public void culledRenderDoesNotAllocate() {
+        // Half of the world, so culling skips bodies, joints and contacts
+        Rectangle bounds = new Rectangle(0, 0, 32, 64);
+        for (int i = 0; i < WARM_UP_RENDERS; i++) render(bounds);
+
+        long overhead = measureOverhead();
+        long start = allocatedBytes();
+        for (int i = 0; i < RENDERS; i++) render(bounds);
+        long allocated = allocatedBytes() - start - overhead;
+
+        assertTrue(debugDrawer.getCulledBodies() > 0);
+        assertEquals("bytes allocated by " + RENDERS + " culled renders", 0, allocated);
+    }
+
+    private void render(Rectangle bounds) {
+        batch.begin();
+        if (bounds == null) debugDrawer.render(world);
+        else debugDrawer.render(world, bounds);
+        batch.end();
+    }
+
+    /** Reading the counter may allocate itself, for example the array of thread ids. */
+    private static long measureOverhead() {
+        long overhead = 0;
+        for (int i = 0; i < WARM_UP_RENDERS; i++) {
+            long start = allocatedBytes();
+            overhead = allocatedBytes() - start;
+        }
+        return overhead;
+    }
+
+    private static long allocatedBytes() {
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
@@ -0,0 +1,103 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import dev.lyze.gdxUnBox2d.Box2dPhysicsWorld;
+import dev.lyze.gdxUnBox2d.GameObject;
+import dev.lyze.gdxUnBox2d.UnBox;
+import dev.lyze.gdxUnBox2d.behaviours.box2d.Box2dBehaviour;
+import dev.lyze.gdxUnBox2d.behaviours.box2d.fixtures.CreateBox2dCircleFixtureBehaviour;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class GameObjectPoolTest {
+    private static final float TIME_STEP = 1 / 60f;
+
+    private UnBox<Box2dPhysicsWorld> unBox;
+
+    @BeforeClass
+    public static void loadNatives() {
+        GdxNativesLoader.load();
+    }
+
+    @Before
+    public void createUnBox() {
+        unBox = new UnBox<>(new Box2dPhysicsWorld(new World(new Vector2(0, -10), true)));
+    }
+
+    @After
+    public void disposeUnBox() {
+        unBox.getPhysicsWorld().getWorld().dispose();
+    }
+
+    /** The bodies do not exist yet when prewarm frees the game objects. */
+    @Test
+    public void prewarmedBodiesAreInactive() {
+        GameObjectPool pool = new GameObjectPool(unBox, GameObjectPoolTest::createBall);
+        pool.prewarm(3, 2, 3);
+        step(1);
+
+        for (GameObject gameObject : pool.getGameObjects()) {
+            Body body = getBody(gameObject);
+            assertNotNull(body);
+            assertFalse(body.isActive());
+            assertFalse(gameObject.isEnabled());
+        }
+
+        // Inactive bodies neither fall nor push each other apart
+        step(30);
+        for (GameObject gameObject : pool.getGameObjects()) {
+            assertEquals(2, getBody(gameObject).getPosition().x, 0);
+            assertEquals(3, getBody(gameObject).getPosition().y, 0);
+        }
+    }
+
+    @Test
+    public void obtainActivatesAPrewarmedBody() {
+        GameObjectPool pool = new GameObjectPool(unBox, GameObjectPoolTest::createBall);
+        pool.prewarm(1, 2, 3);
+        step(1);
+
+        GameObject gameObject = pool.obtain(-4, 5);
+        Body body = getBody(gameObject);
+        assertTrue(body.isActive());
+        assertTrue(gameObject.isEnabled());
+        assertEquals(-4, body.getPosition().x, 0);
+        assertEquals(5, body.getPosition().y, 0);
+
+        // The body stays active after the pool runs its deferred deactivation again
+        step(1);
+        assertTrue(body.isActive());
+        assertEquals(1, pool.getActive());
+        assertEquals(0, pool.getFree());
+    }
+
+    private static GameObject createBall(UnBox<Box2dPhysicsWorld> unBox, float x, float y) {
+        GameObject gameObject = new GameObject(unBox);
+        BodyDef bodyDef = new BodyDef();
+        bodyDef.type = BodyType.DynamicBody;
+        bodyDef.position.set(x, y);
+        new Box2dBehaviour(bodyDef, gameObject);
+        new CreateBox2dCircleFixtureBehaviour(.5f, gameObject);
+        return gameObject;
+    }
+
+    private void step(int steps) {
+        for (int i = 0; i < steps; i++) {
+            unBox.preRender(TIME_STEP);
+            unBox.postRender();
+        }
+    }
+
+    private static Body getBody(GameObject gameObject) {
+        return gameObject.getBehaviour(Box2dBehaviour.class).getBody();
+    }
+}
@@ -0,0 +1,126 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class InputRecorderTest {
+    @Test
+    public void replaysEveryStep() {
+        ScriptedSource source = new ScriptedSource();
+        // Runs of one step, runs that need a second and a third count byte, and every button
+        source.append(0, 1);
+        source.append(InputSource.UP, 127);
+        source.append(InputSource.UP | InputSource.LEFT, 128);
+        source.append(0, 3);
+        source.append(InputSource.DOWN | InputSource.RIGHT, 20000);
+        source.append(InputSource.LEFT, 1);
+        source.append(InputSource.RIGHT, 1);
+        InputRecorder recorder = new InputRecorder(source);
+        pollAll(recorder, source);
+
+        InputReplay replay = new InputReplay(recorder.toBytes());
+
+        assertEquals(source.masks.size, replay.getSteps());
+        for (int i = 0; i < source.masks.size; i++) {
+            assertFalse(replay.isFinished());
+            assertEquals("step " + i, source.masks.get(i), replay.poll());
+        }
+        assertTrue(replay.isFinished());
+        assertEquals(source.masks.size, replay.getStep());
+    }
+
+    @Test
+    public void releasesAllButtonsAfterTheLog() {
+        ScriptedSource source = new ScriptedSource();
+        source.append(InputSource.UP, 5);
+        InputRecorder recorder = new InputRecorder(source);
+        pollAll(recorder, source);
+
+        InputReplay replay = new InputReplay(recorder.toBytes());
+        for (int i = 0; i < 5; i++) replay.poll();
+
+        assertEquals(0, replay.poll());
+        assertEquals(5, replay.getStep());
+    }
+
+    @Test
+    public void keepsRecordingAfterTakingTheLog() {
+        ScriptedSource source = new ScriptedSource();
+        source.append(InputSource.UP, 10);
+        InputRecorder recorder = new InputRecorder(source);
+        pollAll(recorder, source);
+
+        assertEquals(10, new InputReplay(recorder.toBytes()).getSteps());
+
+        source.append(InputSource.UP, 10);
+        source.append(InputSource.DOWN, 10);
+        pollAll(recorder, source);
+
+        InputReplay replay = new InputReplay(recorder.toBytes());
+        assertEquals(30, replay.getSteps());
+        for (int i = 0; i < source.masks.size; i++) assertEquals(source.masks.get(i), replay.poll());
+    }
+
+    @Test
+    public void passesInputThroughAfterStopping() {
+        ScriptedSource source = new ScriptedSource();
+        source.append(InputSource.LEFT, 4);
+        InputRecorder recorder = new InputRecorder(source);
+        pollAll(recorder, source);
+
+        recorder.stopRecording();
+        assertFalse(recorder.isRecording());
+        source.append(InputSource.RIGHT, 6);
+        pollAll(recorder, source);
+
+        assertEquals(4, recorder.getSteps());
+        InputReplay replay = new InputReplay(recorder.toBytes());
+        assertEquals(4, replay.getSteps());
+        for (int i = 0; i < 4; i++) assertEquals(InputSource.LEFT, replay.poll());
+        assertTrue(replay.isFinished());
+    }
+
+    @Test(expected = GdxRuntimeException.class)
+    public void rejectsOtherFiles() {
+        new InputReplay(new byte[12]);
+    }
+
+    @Test(expected = GdxRuntimeException.class)
+    public void rejectsTruncatedLogs() {
+        ScriptedSource source = new ScriptedSource();
+        source.append(InputSource.UP, 3);
+        InputRecorder recorder = new InputRecorder(source);
+        pollAll(recorder, source);
+
+        // Only the header is left, which still claims three steps
+        byte[] truncated = new byte[12];
+        System.arraycopy(recorder.toBytes(), 0, truncated, 0, truncated.length);
+        new InputReplay(truncated).poll();
+    }
+
+    /** Polls the recorder once per step the source has left and checks that the input is passed through. */
+    private static void pollAll(InputRecorder recorder, ScriptedSource source) {
+        while (source.step < source.masks.size) {
+            int expected = source.masks.get(source.step);
+            assertEquals(expected, recorder.poll());
+        }
+    }
+
+    /** Returns a given sequence of masks, one per poll. */
+    private static class ScriptedSource implements InputSource {
+        private final IntArray masks = new IntArray();
+        private int step;
+
+        void append(int mask, int steps) {
+            for (int i = 0; i < steps; i++) masks.add(mask);
+        }
+
+        @Override
+        public int poll() {
+            return masks.get(step++);
+        }
+    }
+}
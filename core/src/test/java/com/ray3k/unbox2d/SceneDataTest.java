@@ -0,0 +1,110 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonReader;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.*;
+
+public class SceneDataTest {
+    @Test
+    public void parsesEveryField() {
+        SceneData scene = parse("{ \"entities\": [\n"
+                + "{ \"body\": \"static\", \"x\": 10, \"y\": -2, \"box\": [0.5, 10],\n"
+                + "  \"sprite\": { \"region\": \"wall\", \"x\": -0.5, \"y\": -10, \"width\": 1, \"height\": 20,"
+                + " \"order\": -10, \"flipY\": true } },\n"
+                + "{ \"body\": \"dynamic\", \"circle\": 0.25 },\n"
+                + "{ \"sprite\": { \"region\": \"wall\" } }\n"
+                + "] }");
+
+        assertEquals(3, scene.getEntityCount());
+
+        assertEquals(BodyType.StaticBody, scene.getBodyType(0));
+        assertEquals(SceneData.SHAPE_BOX, scene.getShape(0));
+        assertEquals(10, scene.getX(0), 0);
+        assertEquals(-2, scene.getY(0), 0);
+        assertEquals(.5f, scene.getSizeA(0), 0);
+        assertEquals(10, scene.getSizeB(0), 0);
+        assertEquals("wall", scene.getRegion(0));
+        assertEquals(-.5f, scene.getSpriteX(0), 0);
+        assertEquals(-10, scene.getSpriteY(0), 0);
+        assertEquals(1, scene.getSpriteWidth(0), 0);
+        assertEquals(20, scene.getSpriteHeight(0), 0);
+        assertEquals(-10, scene.getRenderOrder(0), 0);
+        assertFalse(scene.isFlag(0, SceneData.FLAG_FLIP_X));
+        assertTrue(scene.isFlag(0, SceneData.FLAG_FLIP_Y));
+
+        assertEquals(BodyType.DynamicBody, scene.getBodyType(1));
+        assertEquals(SceneData.SHAPE_CIRCLE, scene.getShape(1));
+        assertEquals(.25f, scene.getSizeA(1), 0);
+        assertNull(scene.getRegion(1));
+
+        assertNull(scene.getBodyType(2));
+        assertEquals(SceneData.SHAPE_NONE, scene.getShape(2));
+        assertEquals("wall", scene.getRegion(2));
+    }
+
+    @Test
+    public void binaryFormRoundTrips() {
+        SceneData scene = parse("{ \"entities\": [\n"
+                + "{ \"body\": \"kinematic\", \"x\": 3, \"sprite\": { \"region\": \"a\" } },\n"
+                + "{ \"sprite\": { \"region\": \"b\", \"order\": 2 } }\n"
+                + "] }");
+
+        SceneData copy = new SceneData(copy(scene.getBuffer()));
+
+        assertEquals(2, copy.getEntityCount());
+        assertEquals(BodyType.KinematicBody, copy.getBodyType(0));
+        assertEquals(3, copy.getX(0), 0);
+        assertEquals("a", copy.getRegion(0));
+        assertEquals("b", copy.getRegion(1));
+        assertEquals(2, copy.getRenderOrder(1), 0);
+    }
+
+    /** Lengths of 32768 bytes and more do not fit a signed short. */
+    @Test
+    public void readsLongStrings() {
+        String region = repeat('r', 40000);
+        SceneData scene = parse("{ \"entities\": [ { \"sprite\": { \"region\": \"" + region + "\" } } ] }");
+
+        assertEquals(region, scene.getRegion(0));
+        assertEquals(region, new SceneData(copy(scene.getBuffer())).getRegion(0));
+    }
+
+    @Test(expected = GdxRuntimeException.class)
+    public void rejectsStringsLongerThanTheLengthField() {
+        parse("{ \"entities\": [ { \"sprite\": { \"region\": \"" + repeat('r', 0x10000) + "\" } } ] }");
+    }
+
+    @Test(expected = GdxRuntimeException.class)
+    public void rejectsTruncatedStrings() {
+        ByteBuffer buffer = parse("{ \"entities\": [ { \"sprite\": { \"region\": \"region\" } } ] }").getBuffer();
+        buffer.limit(buffer.limit() - 1);
+        new SceneData(copy(buffer));
+    }
+
+    @Test(expected = GdxRuntimeException.class)
+    public void rejectsOtherFiles() {
+        new SceneData(ByteBuffer.allocate(SceneData.HEADER_SIZE));
+    }
+
+    private static SceneData parse(String json) {
+        return SceneJson.parse(new JsonReader().parse(json));
+    }
+
+    private static ByteBuffer copy(ByteBuffer buffer) {
+        ByteBuffer copy = ByteBuffer.allocate(buffer.remaining());
+        copy.put(buffer);
+        copy.flip();
+        return copy;
+    }
+
+    private static String repeat(char c, int count) {
+        StringBuilder builder = new StringBuilder(count);
+        for (int i = 0; i < count; i++) builder.append(c);
+        return builder.toString();
+    }
+}
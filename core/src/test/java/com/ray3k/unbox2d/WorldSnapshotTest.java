@@ -0,0 +1,159 @@
+package com.ray3k.unbox2d;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import dev.lyze.gdxUnBox2d.Box2dPhysicsWorld;
+import dev.lyze.gdxUnBox2d.GameObject;
+import dev.lyze.gdxUnBox2d.UnBox;
+import dev.lyze.gdxUnBox2d.behaviours.box2d.Box2dBehaviour;
+import dev.lyze.gdxUnBox2d.behaviours.box2d.fixtures.CreateBox2dCircleFixtureBehaviour;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.*;
+
+public class WorldSnapshotTest {
+    private static final float TIME_STEP = 1 / 60f;
+
+    private UnBox<Box2dPhysicsWorld> unBox;
+
+    @BeforeClass
+    public static void loadNatives() {
+        GdxNativesLoader.load();
+    }
+
+    @Before
+    public void createUnBox() {
+        unBox = new UnBox<>(new Box2dPhysicsWorld(new World(new Vector2(0, -10), true)));
+    }
+
+    @After
+    public void disposeUnBox() {
+        unBox.getPhysicsWorld().getWorld().dispose();
+    }
+
+    @Test
+    public void restoresBodies() {
+        GameObject ball = createBall(unBox, 0, 0);
+        step(1);
+        Body body = getBody(ball);
+        body.setLinearVelocity(3, 4);
+        body.setAngularVelocity(1);
+        step(10);
+
+        WorldSnapshot snapshot = new WorldSnapshot();
+        snapshot.track(ball);
+        ByteBuffer buffer = save(snapshot);
+        float[] saved = state(body);
+
+        step(30);
+        assertNotEquals(saved[0], body.getPosition().x, 0);
+        snapshot.restore(buffer);
+
+        assertArrayEquals(saved, state(body), 0);
+        assertTrue(body.isAwake());
+    }
+
+    @Test
+    public void resimulatesTheSameSteps() {
+        GameObject ball = createBall(unBox, 0, 0);
+        step(1);
+        getBody(ball).setLinearVelocity(-2, 5);
+
+        WorldSnapshot snapshot = new WorldSnapshot();
+        snapshot.track(ball);
+        ByteBuffer buffer = save(snapshot);
+
+        step(30);
+        float[] first = state(getBody(ball));
+        snapshot.restore(buffer);
+        step(30);
+
+        assertArrayEquals(first, state(getBody(ball)), 0);
+    }
+
+    @Test
+    public void restoresSpawnedPoolObjects() {
+        GameObjectPool pool = new GameObjectPool(unBox, WorldSnapshotTest::createBall);
+        pool.prewarm(3, 100, 100);
+        step(1);
+        GameObject spawned = pool.obtain(0, 0);
+
+        WorldSnapshot snapshot = new WorldSnapshot();
+        snapshot.track(pool);
+        for (GameObject gameObject : pool.getGameObjects()) snapshot.track(gameObject);
+        ByteBuffer buffer = save(snapshot);
+        GameObject next = pool.obtain(1, 0);
+
+        pool.free(spawned);
+        pool.obtain(2, 0);
+        snapshot.restore(buffer);
+
+        assertEquals(1, pool.getActive());
+        assertEquals(2, pool.getFree());
+        for (GameObject gameObject : pool.getGameObjects()) {
+            boolean expected = gameObject == spawned;
+            assertEquals(expected, gameObject.isEnabled());
+            assertEquals(expected, getBody(gameObject).isActive());
+        }
+        // The free list is restored in order, so the pool hands out the same game object again
+        assertSame(next, pool.obtain(1, 0));
+    }
+
+    @Test(expected = GdxRuntimeException.class)
+    public void rejectsADifferentSetOfGameObjects() {
+        GameObject ball = createBall(unBox, 0, 0);
+        step(1);
+
+        WorldSnapshot snapshot = new WorldSnapshot();
+        snapshot.track(ball);
+        ByteBuffer buffer = save(snapshot);
+
+        snapshot.track(createBall(unBox, 5, 0));
+        snapshot.restore(buffer);
+    }
+
+    private static GameObject createBall(UnBox<Box2dPhysicsWorld> unBox, float x, float y) {
+        GameObject gameObject = new GameObject(unBox);
+        BodyDef bodyDef = new BodyDef();
+        bodyDef.type = BodyType.DynamicBody;
+        bodyDef.position.set(x, y);
+        new Box2dBehaviour(bodyDef, gameObject);
+        new CreateBox2dCircleFixtureBehaviour(.5f, gameObject);
+        return gameObject;
+    }
+
+    private void step(int steps) {
+        for (int i = 0; i < steps; i++) {
+            unBox.preRender(TIME_STEP);
+            unBox.postRender();
+        }
+    }
+
+    private static ByteBuffer save(WorldSnapshot snapshot) {
+        ByteBuffer buffer = ByteBuffer.allocate(snapshot.getSize());
+        snapshot.save(buffer);
+        assertFalse(buffer.hasRemaining());
+        buffer.flip();
+        return buffer;
+    }
+
+    private static Body getBody(GameObject gameObject) {
+        return gameObject.getBehaviour(Box2dBehaviour.class).getBody();
+    }
+
+    private static float[] state(Body body) {
+        Vector2 position = body.getPosition();
+        Vector2 velocity = body.getLinearVelocity();
+        return new float[] {position.x, position.y, body.getAngle(), velocity.x, velocity.y, body.getAngularVelocity()};
+    }
+}
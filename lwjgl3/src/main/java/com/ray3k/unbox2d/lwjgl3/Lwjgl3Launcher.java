@@ -2,16 +2,23 @@ package com.ray3k.unbox2d.lwjgl3;
 
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
-import com.ray3k.unbox2d.SampleGame11;
+import com.ray3k.unbox2d.AsyncRingBufferAppender;
+import com.ray3k.unbox2d.ConsoleAppender;
+import com.ray3k.unbox2d.Log;
+import com.ray3k.unbox2d.SampleGame12;
 
 /** Launches the desktop (LWJGL3) application. */
 public class Lwjgl3Launcher {
     public static void main(String[] args) {
+        // Write log output on a background thread so a slow console does not stall the game loop
+        AsyncRingBufferAppender appender = new AsyncRingBufferAppender(1024, new ConsoleAppender());
+        Log.setAppender(appender);
         createApplication();
+        appender.dispose();
     }
 
     private static Lwjgl3Application createApplication() {
-        return new Lwjgl3Application(new SampleGame11(), getDefaultConfiguration());
+        return new Lwjgl3Application(new SampleGame12(), getDefaultConfiguration());
     }
 
     private static Lwjgl3ApplicationConfiguration getDefaultConfiguration() {
@@ -0,0 +1,88 @@
+package com.ray3k.unbox2d.server;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessFiles;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import com.ray3k.unbox2d.ConsoleAppender;
+import com.ray3k.unbox2d.InputReplay;
+import com.ray3k.unbox2d.Log;
+import com.ray3k.unbox2d.RegionProvider;
+import com.ray3k.unbox2d.RenderMode;
+import com.ray3k.unbox2d.SampleGame12;
+import dev.lyze.gdxUnBox2d.Box2dPhysicsWorld;
+import dev.lyze.gdxUnBox2d.UnBox;
+
+/**
+ * Plays an input log recorded by {@link SampleGame12} back through its world as fast as possible, without rendering
+ * or frame pacing. At the end it logs how long the replay took and a checksum of every body's transform and velocity.
+ * The arguments are the log file and optionally the expected checksum in hex. The process exits with 1 when the
+ * checksum differs, so recorded sessions can be used as regression tests.
+ */
+public class ReplayRunner {
+    private static final String TAG = "Replay";
+    /** The default fixed time step of UnBox. Feeding it as delta runs exactly one fixed step per preRender. */
+    private static final float TIME_STEP = 1 / 60f;
+    private static final RegionProvider REGIONS = name -> new TextureRegion();
+
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.err.println("Usage: ReplayRunner <replay file> [expected checksum]");
+            System.exit(2);
+        }
+
+        // Nothing is drawn, so only the natives and the files are set up instead of a whole application
+        GdxNativesLoader.load();
+        Gdx.files = new HeadlessFiles();
+        Log.setAppender(new ConsoleAppender());
+        RenderMode.setHeadless(true);
+
+        InputReplay replay = new InputReplay(Gdx.files.absolute(args[0]));
+        UnBox<Box2dPhysicsWorld> unBox = new UnBox<>(new Box2dPhysicsWorld(new World(new Vector2(0, 0), true)));
+        SampleGame12.createWorld(unBox, REGIONS, null, replay);
+
+        long start = System.nanoTime();
+        while (!replay.isFinished()) {
+            unBox.preRender(TIME_STEP);
+            unBox.postRender();
+        }
+        long nanos = System.nanoTime() - start;
+
+        World world = unBox.getPhysicsWorld().getWorld();
+        String checksum = Integer.toHexString(checksum(world));
+        world.dispose();
+
+        double seconds = nanos / 1e9;
+        double simulated = replay.getSteps() * TIME_STEP;
+        Log.info(TAG, replay.getSteps() + " steps, " + Math.round(simulated) + " s simulated in "
+                + Math.round(seconds * 1000) + " ms, " + Math.round(simulated / seconds) + "x real time");
+        Log.info(TAG, "checksum " + checksum);
+
+        if (args.length > 1 && !args[1].equalsIgnoreCase(checksum)) {
+            Log.error(TAG, "Expected checksum " + args[1]);
+            System.exit(1);
+        }
+    }
+
+    /** Hashes the exact bits of the transform and velocity of every body, in the order Box2D keeps them. */
+    private static int checksum(World world) {
+        Array<Body> bodies = new Array<>();
+        world.getBodies(bodies);
+
+        int hash = 1;
+        for (Body body : bodies) {
+            Vector2 position = body.getPosition();
+            hash = 31 * hash + Float.floatToIntBits(position.x);
+            hash = 31 * hash + Float.floatToIntBits(position.y);
+            hash = 31 * hash + Float.floatToIntBits(body.getAngle());
+            Vector2 velocity = body.getLinearVelocity();
+            hash = 31 * hash + Float.floatToIntBits(velocity.x);
+            hash = 31 * hash + Float.floatToIntBits(velocity.y);
+        }
+        return hash;
+    }
+}
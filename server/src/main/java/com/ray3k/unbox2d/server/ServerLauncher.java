@@ -0,0 +1,44 @@
+package com.ray3k.unbox2d.server;
+
+import com.badlogic.gdx.LifecycleListener;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.ray3k.unbox2d.AsyncRingBufferAppender;
+import com.ray3k.unbox2d.ConsoleAppender;
+import com.ray3k.unbox2d.Log;
+
+/**
+ * Launches the dedicated server. It needs neither a GPU nor a display. The optional arguments are the tick rate,
+ * which has to be {@link ServerSimulation#STEPS_PER_SECOND}, and the number of ticks to run before exiting, 0 by
+ * default to run until the process is stopped.
+ */
+public class ServerLauncher {
+    public static void main(String[] args) {
+        int ticksPerSecond = args.length > 0 ? Integer.parseInt(args[0]) : ServerSimulation.STEPS_PER_SECOND;
+        long maxTicks = args.length > 1 ? Long.parseLong(args[1]) : 0;
+
+        // A slow console must not delay a tick
+        AsyncRingBufferAppender appender = new AsyncRingBufferAppender(1024, new ConsoleAppender());
+        Log.setAppender(appender);
+
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        // Render as often as possible, the simulation does its own scheduling
+        configuration.updatesPerSecond = 0;
+        HeadlessApplication application = new HeadlessApplication(new ServerSimulation(ticksPerSecond, maxTicks),
+                configuration);
+        application.addLifecycleListener(new LifecycleListener() {
+            @Override
+            public void pause() {
+            }
+
+            @Override
+            public void resume() {
+            }
+
+            @Override
+            public void dispose() {
+                appender.dispose();
+            }
+        });
+    }
+}
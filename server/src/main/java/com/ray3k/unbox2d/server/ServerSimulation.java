@@ -0,0 +1,86 @@
+package com.ray3k.unbox2d.server;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.ray3k.unbox2d.Log;
+import com.ray3k.unbox2d.RegionProvider;
+import com.ray3k.unbox2d.RenderMode;
+import com.ray3k.unbox2d.SampleGame12;
+import dev.lyze.gdxUnBox2d.Box2dPhysicsWorld;
+import dev.lyze.gdxUnBox2d.UnBox;
+
+/**
+ * Steps the world of {@link SampleGame12} at a fixed tick rate without rendering anything. Every tick runs preRender
+ * and postRender with the tick period as delta, so UnBox takes exactly one fixed step per tick. UnBox and the
+ * FixedStepClock of the sample step at 60 per second, so that is the only tick rate accepted. The duration of every
+ * tick is recorded and the percentiles are logged once per window.
+ */
+public class ServerSimulation extends ApplicationAdapter {
+    /** The fixed steps per second of UnBox. */
+    public static final int STEPS_PER_SECOND = 60;
+    private static final String TAG = "Server";
+    /** Regions without a texture. The sprites built from them are never drawn on the server. */
+    private static final RegionProvider REGIONS = name -> new TextureRegion();
+
+    private final int ticksPerSecond;
+    private final long maxTicks;
+    private UnBox<Box2dPhysicsWorld> unBox;
+    private TickScheduler scheduler;
+    private TickStats stats;
+    private long ticks;
+
+    /** @param maxTicks how many ticks to run before exiting, or 0 to run until the process is stopped. */
+    public ServerSimulation(int ticksPerSecond, long maxTicks) {
+        // Any other rate would take zero or several fixed steps per tick, with the tick stats measuring neither
+        if (ticksPerSecond != STEPS_PER_SECOND) {
+            throw new GdxRuntimeException("The tick rate has to match the fixed step of UnBox, " + STEPS_PER_SECOND
+                    + " per second: " + ticksPerSecond);
+        }
+        this.ticksPerSecond = ticksPerSecond;
+        this.maxTicks = maxTicks;
+    }
+
+    @Override
+    public void create() {
+        RenderMode.setHeadless(true);
+        unBox = new UnBox<>(new Box2dPhysicsWorld(new World(new Vector2(0, 0), true)));
+        SampleGame12.createWorld(unBox, REGIONS, null);
+
+        scheduler = new TickScheduler(ticksPerSecond);
+        // Report every 10 seconds of simulated time
+        stats = new TickStats(ticksPerSecond * 10, scheduler.getPeriodNanos());
+        Log.info(TAG, "Running at " + ticksPerSecond + " ticks per second");
+    }
+
+    @Override
+    public void render() {
+        try {
+            scheduler.awaitNextTick();
+        } catch (InterruptedException e) {
+            Gdx.app.exit();
+            return;
+        }
+
+        long start = System.nanoTime();
+        unBox.preRender(1f / STEPS_PER_SECOND);
+        unBox.postRender();
+        if (stats.record(System.nanoTime() - start)) {
+            Log.info(TAG, stats.report());
+            if (scheduler.getDropped() > 0) Log.info(TAG, "Dropped " + scheduler.getDropped() + " ticks so far");
+        }
+
+        if (++ticks == maxTicks) {
+            Log.info(TAG, stats.report());
+            Gdx.app.exit();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        unBox.getPhysicsWorld().getWorld().dispose();
+    }
+}
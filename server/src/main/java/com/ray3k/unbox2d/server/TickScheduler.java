@@ -0,0 +1,58 @@
+package com.ray3k.unbox2d.server;
+
+/**
+ * Waits for the start of the next tick of a fixed rate. {@link Thread#sleep(long)} often oversleeps by a millisecond
+ * or more, so it only sleeps until shortly before the deadline and spins for the rest. Deadlines advance by exactly one
+ * tick period, so late ticks are caught up on instead of drifting. When the server falls too far behind, the missed
+ * ticks are dropped and the schedule restarts from now.
+ */
+public class TickScheduler {
+    private final long periodNanos;
+    private final long spinNanos;
+    private final int maxLagTicks;
+    private long deadline;
+    private long dropped;
+
+    /** Spins for the last 2 milliseconds and drops ticks once it is 5 ticks behind. */
+    public TickScheduler(int ticksPerSecond) {
+        this(ticksPerSecond, 2000000, 5);
+    }
+
+    /**
+     * @param spinNanos how long before the deadline to stop sleeping and spin instead.
+     * @param maxLagTicks how many ticks the server may fall behind before it stops catching up.
+     */
+    public TickScheduler(int ticksPerSecond, long spinNanos, int maxLagTicks) {
+        periodNanos = 1000000000L / ticksPerSecond;
+        this.spinNanos = spinNanos;
+        this.maxLagTicks = maxLagTicks;
+        deadline = System.nanoTime();
+    }
+
+    /** Blocks until the next tick is due. */
+    public void awaitNextTick() throws InterruptedException {
+        deadline += periodNanos;
+        long now = System.nanoTime();
+        if (now - deadline > maxLagTicks * periodNanos) {
+            dropped += (now - deadline) / periodNanos;
+            deadline = now;
+            return;
+        }
+
+        long remaining = deadline - now;
+        if (remaining > spinNanos) {
+            long sleep = remaining - spinNanos;
+            Thread.sleep(sleep / 1000000, (int) (sleep % 1000000));
+        }
+        while (System.nanoTime() - deadline < 0) Thread.yield();
+    }
+
+    public long getPeriodNanos() {
+        return periodNanos;
+    }
+
+    /** @return how many ticks were skipped because the server fell too far behind. */
+    public long getDropped() {
+        return dropped;
+    }
+}
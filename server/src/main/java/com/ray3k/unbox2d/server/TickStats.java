@@ -0,0 +1,59 @@
+package com.ray3k.unbox2d.server;
+
+import java.util.Arrays;
+
+/**
+ * Collects the durations of a window of ticks and reports their percentiles. Recording does not allocate, the
+ * durations are only sorted when a report is built.
+ */
+public class TickStats {
+    private final long[] durations;
+    private final long[] sorted;
+    private final long budgetNanos;
+    private int count;
+    private int overruns;
+
+    /** @param budgetNanos the tick period. Ticks that take longer are counted as overruns. */
+    public TickStats(int windowTicks, long budgetNanos) {
+        durations = new long[windowTicks];
+        sorted = new long[windowTicks];
+        this.budgetNanos = budgetNanos;
+    }
+
+    /** @return true if the window is full and should be reported. */
+    public boolean record(long nanos) {
+        durations[count++] = nanos;
+        if (nanos > budgetNanos) overruns++;
+        return count == durations.length;
+    }
+
+    /** Builds a report of the recorded ticks in milliseconds and starts a new window. */
+    public String report() {
+        System.arraycopy(durations, 0, sorted, 0, count);
+        Arrays.sort(sorted, 0, count);
+
+        StringBuilder text = new StringBuilder();
+        text.append(count).append(" ticks");
+        appendMillis(text, "p50", percentile(0.5));
+        appendMillis(text, "p90", percentile(0.9));
+        appendMillis(text, "p99", percentile(0.99));
+        appendMillis(text, "p99.9", percentile(0.999));
+        appendMillis(text, "max", count == 0 ? 0 : sorted[count - 1]);
+        text.append(", overruns ").append(overruns);
+
+        count = 0;
+        overruns = 0;
+        return text.toString();
+    }
+
+    private long percentile(double fraction) {
+        if (count == 0) return 0;
+        // Nearest rank, so every reported value is a duration that actually happened
+        int rank = (int) Math.ceil(fraction * count);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static void appendMillis(StringBuilder text, String name, long nanos) {
+        text.append(", ").append(name).append(' ').append(Math.round(nanos / 1000.0) / 1000.0).append(" ms");
+    }
+}
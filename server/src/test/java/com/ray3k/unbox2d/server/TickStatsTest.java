@@ -0,0 +1,57 @@
+package com.ray3k.unbox2d.server;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TickStatsTest {
+    private static final long MILLIS = 1000000;
+
+    @Test
+    public void reportsWhenTheWindowIsFull() {
+        TickStats stats = new TickStats(3, 10 * MILLIS);
+
+        assertFalse(stats.record(MILLIS));
+        assertFalse(stats.record(MILLIS));
+        assertTrue(stats.record(MILLIS));
+    }
+
+    @Test
+    public void reportsNearestRankPercentiles() {
+        TickStats stats = new TickStats(100, 1000 * MILLIS);
+        // Out of order, so the report has to sort them
+        for (int i = 100; i >= 1; i--) stats.record(i * MILLIS);
+
+        assertEquals("100 ticks, p50 50.0 ms, p90 90.0 ms, p99 99.0 ms, p99.9 100.0 ms, max 100.0 ms, overruns 0",
+                stats.report());
+    }
+
+    @Test
+    public void countsTicksOverTheBudget() {
+        TickStats stats = new TickStats(10, 10 * MILLIS);
+        stats.record(5 * MILLIS);
+        stats.record(10 * MILLIS);
+        stats.record(11 * MILLIS);
+        stats.record(30 * MILLIS);
+
+        assertTrue(stats.report().endsWith(", overruns 2"));
+    }
+
+    @Test
+    public void startsANewWindowAfterAReport() {
+        TickStats stats = new TickStats(2, 10 * MILLIS);
+        stats.record(20 * MILLIS);
+        stats.record(20 * MILLIS);
+        stats.report();
+
+        assertFalse(stats.record(MILLIS));
+        assertEquals("1 ticks, p50 1.0 ms, p90 1.0 ms, p99 1.0 ms, p99.9 1.0 ms, max 1.0 ms, overruns 0",
+                stats.report());
+    }
+
+    @Test
+    public void reportsAnEmptyWindow() {
+        assertEquals("0 ticks, p50 0.0 ms, p90 0.0 ms, p99 0.0 ms, p99.9 0.0 ms, max 0.0 ms, overruns 0",
+                new TickStats(10, MILLIS).report());
+    }
+}